@@ -14,9 +14,11 @@ package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,40 +35,51 @@ public class CosemObjectFactory {
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
-     * Lookup cache for fixed OBIS Identifiers
+     * Marker for OBIS Identifiers that can't be encoded in a lookup key.
      */
-    private final Map<OBISIdentifier, CosemObjectType> obisLookupTableFixed = new HashMap<>();
+    private static final long NO_KEY = -1;
 
     /**
-     * Lookup cache for fixed OBIS Identifiers that has the same id for different data types
+     * Sorted lookup keys of all OBIS Identifiers of the {@link CosemObjectType}s.
      */
-    private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
+    private static final long[] LOOKUP_KEYS;
 
     /**
-     * Creates a new CosemObjectFactory
+     * The {@link CosemObjectType}s for the key at the same index in {@link #LOOKUP_KEYS}. If more than 1 type is
+     * present the OBIS Identifier is used for different types of data.
      */
-    public CosemObjectFactory() {
+    private static final CosemObjectType[][] LOOKUP_TYPES;
+
+    static {
         /*
-         * Fill lookup tables. There are 3 entities:
-         * - obisLookupTableFixed. This lookup table contains all CosemObjectType with a fixed OBISIdentifier
-         * (i.e. groupA != null && groupB != null && groupC != null).
-         * - obisLookupTableDynamic. This lookup table contains all CosemObjectType with a wildcard OBISIdentifier
-         * (i.e. groupA == null || groupB == null || groupC == null). This lookuptable will be filled
-         * dynamically with unique wildcard OBISIdentifiers when values are received and matches a particular real
-         * device (if the device is changed, this lookupTable must be cleared by removing the corresponding DSMRDevice
-         * Thing from the configuration.)
-         * - obisWildCardCosemTypeList. This is the list of all wild card Cosem Object types. Multiple Cosem Object
-         * Types can have the same wild card OBISIdentifer.
-         *
-         * To facilitate autodiscovery the list has all supported CosemObjectTypes. To improve performance once the
-         * correct OBISIdentifier is discovered for a certain OBISMsgType this is added to the obisLookupTableDynamic.
+         * Fill the lookup table. Every CosemObjectType is stored with its reduced OBIS Identifier (i.e. group A, C, D
+         * and E) packed into a single long. The lookup table is sorted so identifiers can be resolved with a binary
+         * search without creating any objects.
+         * If a reduced OBIS Identifier is used for different data types (i.e. it is marked as conflict) all types are
+         * stored, and the one that is able to parse the values is used.
          */
+        final Map<Long, List<CosemObjectType>> lookupTable = new TreeMap<>();
+
         for (CosemObjectType msgType : CosemObjectType.values()) {
-            if (msgType.obisId.isConflict()) {
-                obisLookupTableMultipleFixed.computeIfAbsent(msgType.obisId, r -> new ArrayList<>()).add(msgType);
-            } else {
-                obisLookupTableFixed.put(msgType.obisId, msgType);
+            final OBISIdentifier obisId = msgType.obisId;
+            final long key = lookupKey(obisId.getGroupA(), obisId.getGroupC(), obisId.getGroupD(), obisId.getGroupE());
+            final List<CosemObjectType> types = lookupTable.computeIfAbsent(key, k -> new ArrayList<>());
+
+            if (!obisId.isConflict()) {
+                types.clear();
+            } else if (!types.isEmpty() && !types.get(0).obisId.isConflict()) {
+                // a fixed OBIS Identifier takes precedence over conflicting ones
+                continue;
             }
+            types.add(msgType);
+        }
+        LOOKUP_KEYS = new long[lookupTable.size()];
+        LOOKUP_TYPES = new CosemObjectType[lookupTable.size()][];
+        int i = 0;
+        for (Entry<Long, List<CosemObjectType>> entry : lookupTable.entrySet()) {
+            LOOKUP_KEYS[i] = entry.getKey();
+            LOOKUP_TYPES[i] = entry.getValue().toArray(new CosemObjectType[0]);
+            i++;
         }
     }
 
@@ -79,41 +92,43 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
-
         try {
-            obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
+            return getCosemObject(new OBISIdentifier(obisIdString), cosemStringValues);
         } catch (final ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
         }
+    }
 
-        logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
-
-        CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
-        if (objectType != null) {
-            logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
-        }
-
-        List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
-        if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
+    /**
+     * Return Cosem Object for the OBIS Identifier or null if values couldn't be parsed correctly or no corresponding
+     * Cosem Object was found
+     *
+     * @param obisId the OBIS message identifier
+     * @param cosemStringValues String containing Cosem values
+     * @return CosemObject or null if parsing failed
+     */
+    public @Nullable CosemObject getCosemObject(OBISIdentifier obisId, String cosemStringValues) {
+        logger.trace("Received obisId: {}, values: {}", obisId, cosemStringValues);
+
+        final CosemObjectType[] objectTypes = lookup(obisId.getGroupE(), obisId);
+        if (objectTypes != null) {
+            if (!objectTypes[0].obisId.isConflict()) {
+                logger.trace("Found obisId {} in the fixed lookup table", obisId);
+                return getCosemObjectInternal(objectTypes[0], obisId, cosemStringValues);
+            }
+            for (CosemObjectType cosemObjectType : objectTypes) {
                 CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
                 if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
+                    logger.trace("Found obisId {} in the fixed lookup table", obisId);
                     return cosemObject;
                 }
             }
         }
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
-        if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+        final CosemObjectType[] objectTypesGroupE = lookup(null, obisId);
+        if (objectTypesGroupE != null && !objectTypesGroupE[0].obisId.isConflict()) {
+            return getCosemObjectInternal(objectTypesGroupE[0], obisId, cosemStringValues);
         }
 
         logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
@@ -121,6 +136,40 @@ public class CosemObjectFactory {
         return null;
     }
 
+    /**
+     * Looks up the {@link CosemObjectType}s for the reduced OBIS Identifier with the given group E.
+     *
+     * @param groupE the group E value to look up, or null for not applicable
+     * @param obisId the OBIS Identifier to take the other groups from
+     * @return the matching types or null if not found
+     */
+    private static CosemObjectType @Nullable [] lookup(@Nullable Integer groupE, OBISIdentifier obisId) {
+        final long key = lookupKey(obisId.getGroupA(), obisId.getGroupC(), obisId.getGroupD(), groupE);
+        final int index = key == NO_KEY ? -1 : Arrays.binarySearch(LOOKUP_KEYS, key);
+
+        return index < 0 ? null : LOOKUP_TYPES[index];
+    }
+
+    /**
+     * Packs the groups of a reduced OBIS Identifier in a long. Each group takes 16 bits and is stored incremented by 1,
+     * so the invalid group value -1 is stored as 0. A group E that is not applicable is stored as 0xFFFF.
+     *
+     * @return the key or {@link #NO_KEY} if a group value is out of range
+     */
+    private static long lookupKey(int groupA, int groupC, int groupD, @Nullable Integer groupE) {
+        if (!inKeyRange(groupA) || !inKeyRange(groupC) || !inKeyRange(groupD)
+                || (groupE != null && !inKeyRange(groupE))) {
+            return NO_KEY;
+        }
+        final int e = groupE == null ? 0xFFFF : groupE + 1;
+
+        return ((long) (groupA + 1) << 48) | ((long) (groupC + 1) << 32) | ((long) (groupD + 1) << 16) | e;
+    }
+
+    private static boolean inKeyRange(int group) {
+        return group >= -1 && group < 0xFFFE;
+    }
+
     /**
      * Constructs a CosemObject from the given type, OBISIdentifier and the values
      *
@@ -43,6 +43,16 @@ public class OBISIdentifier {
      */
     private static final int INVALID_INT_READ = -1;
 
+    /**
+     * Marker for a group that could not be read from raw data.
+     */
+    private static final int INVALID_NUMBER = Integer.MIN_VALUE;
+
+    /**
+     * Maximum number of digits of a group value read from raw data, so the value fits in an int.
+     */
+    private static final int MAX_DIGITS = 9;
+
     /* the six individual group values of the OBIS ID */
     private final int groupA;
     private final @Nullable Integer channel;
@@ -85,6 +95,16 @@ public class OBISIdentifier {
         this.conflict = conflict;
     }
 
+    private OBISIdentifier(final int groupA, final @Nullable Integer channel, final int groupC, final int groupD,
+            final @Nullable Integer groupE, final @Nullable Integer groupF) {
+        this.groupA = groupA;
+        this.channel = channel;
+        this.groupC = groupC;
+        this.groupD = groupD;
+        this.groupE = groupE;
+        this.groupF = groupF;
+    }
+
     /**
      * Creates a new {@link OBISIdentifier} of the specified String
      *
@@ -115,6 +135,98 @@ public class OBISIdentifier {
         }
     }
 
+    /**
+     * Parses an OBIS Identifier directly from the raw telegram bytes, without creating intermediate Strings.
+     * Accepts the same format as {@link #OBISIdentifier(String)}.
+     *
+     * @param data the raw telegram data
+     * @param offset offset of the first character of the identifier
+     * @param length number of characters of the identifier
+     * @return the OBIS Identifier or null if the data is not a valid OBIS Identifier
+     */
+    public static @Nullable OBISIdentifier parse(final byte[] data, final int offset, final int length) {
+        final int end = offset + length;
+        int start = offset;
+        int pos = skipNumber(data, start, end);
+        int value = readNumber(data, start, pos);
+        int groupA = INVALID_INT_READ;
+        Integer channel = null;
+
+        if (pos < end && data[pos] == '-') {
+            groupA = value;
+            start = pos + 1;
+            pos = skipNumber(data, start, end);
+            value = readNumber(data, start, pos);
+        }
+        if (pos < end && data[pos] == ':') {
+            channel = value;
+            start = pos + 1;
+            pos = skipNumber(data, start, end);
+            value = readNumber(data, start, pos);
+        }
+        final int groupC = value;
+        if (pos == end || data[pos] != '.') {
+            return null;
+        }
+        start = pos + 1;
+        pos = skipNumber(data, start, end);
+        final int groupD = readNumber(data, start, pos);
+        Integer groupE = null;
+        Integer groupF = null;
+
+        if (pos + 1 < end && data[pos] == '.' && isDigit(data[pos + 1])) {
+            start = pos + 1;
+            pos = skipNumber(data, start, end);
+            groupE = readNumber(data, start, pos);
+        }
+        if (pos < end) {
+            // group F may be separated by any character
+            start = pos + 1;
+            pos = skipNumber(data, start, end);
+            groupF = readNumber(data, start, pos);
+        }
+        if (pos != end || groupA == INVALID_NUMBER || groupC == INVALID_NUMBER || groupD == INVALID_NUMBER
+                || !isValid(channel) || !isValid(groupE) || !isValid(groupF)) {
+            return null;
+        }
+        return new OBISIdentifier(groupA, channel, groupC, groupD, groupE, groupF);
+    }
+
+    /**
+     * Reads the number from the digits in the given range.
+     */
+    private static int readNumber(final byte[] data, final int offset, final int end) {
+        if (end == offset || end - offset > MAX_DIGITS) {
+            return INVALID_NUMBER;
+        }
+        int value = 0;
+
+        for (int i = offset; i < end; i++) {
+            value = value * 10 + (data[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the position of the first non digit character starting from offset.
+     */
+    private static int skipNumber(final byte[] data, final int offset, final int end) {
+        int pos = offset;
+
+        while (pos < end && isDigit(data[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isValid(final @Nullable Integer group) {
+        return group == null || group.intValue() != INVALID_NUMBER;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
     private static int safeInt(final @Nullable String value) {
         try {
             return value == null ? INVALID_INT_READ : Integer.parseInt(value);
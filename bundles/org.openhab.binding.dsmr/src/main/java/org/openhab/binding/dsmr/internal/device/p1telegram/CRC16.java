@@ -20,7 +20,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  * This class supports 2 ways of using.
  * The first is to give a complete byte array and get the CRC16 {@link #calculate(byte[], int)}
  * The second variant the instance stores the actual CRC16 value giving the possibility to add bytes in subsequent
- * calls to {@link #processByte(byte)}
+ * calls to {@link #processByte(byte)} or {@link #processBytes(byte[], int, int)}
  *
  * @author M. Volaart - Initial contribution
  */
@@ -109,6 +109,21 @@ public class CRC16 {
         crcValue = (crcValue >> 8) ^ (crcTable[(crcValue & 0xFF) ^ (b & 0xFF)] & 0xFFFF);
     }
 
+    /**
+     * Processes a range of bytes and updates the internal CRC16 value
+     *
+     * @param data the data to process
+     * @param offset offset of the first byte to process
+     * @param length number of bytes to process
+     */
+    public void processBytes(byte[] data, int offset, int length) {
+        int crc = crcValue;
+        for (int p = offset; p < offset + length; p++) {
+            crc = (crc >> 8) ^ (crcTable[(crc & 0xFF) ^ (data[p] & 0xFF)] & 0xFFFF);
+        }
+        crcValue = crc;
+    }
+
     /**
      * Returns the current CRC16 code
      *
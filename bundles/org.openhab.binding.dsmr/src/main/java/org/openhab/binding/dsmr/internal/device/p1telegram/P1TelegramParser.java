@@ -15,16 +15,18 @@ package org.openhab.binding.dsmr.internal.device.p1telegram;
 import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObjectFactory;
+import org.openhab.binding.dsmr.internal.device.cosem.OBISIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +36,11 @@ import org.slf4j.LoggerFactory;
  *
  * Data can be parsed in chunks. If a full P1 telegram is received, listeners are notified
  *
+ * The telegram data is collected in a reusable byte buffer and the Cosem objects are only referenced by their offsets
+ * in this buffer. The CRC is calculated over the raw bytes once per chunk. When a telegram is complete, only Cosem
+ * objects whose raw data changed since the previous telegram are parsed again. Unchanged Cosem objects are reused
+ * from the previous telegram.
+ *
  * @author M. Volaart - Initial contribution
  * @author Hilbrand Bouwkamp - Removed asynchronous call and some clean up
  */
@@ -61,23 +68,66 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of characters of the CRC-code
+     */
+    private static final int CRC_LENGTH = 4;
+
+    /**
+     * Initial size of the telegram buffer. Grows when larger telegrams are received.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+
+    /**
+     * Number of offsets stored per Cosem object: start of OBIS identifier, start of values and end of values.
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int OFFSETS_PER_OBJECT = 3;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
     /* internal state variables */
 
     /**
-     * current obisId buffer.
+     * Raw data of the telegram currently received, from the '/' up to and including the '!'.
+     */
+    private byte[] telegram = new byte[INITIAL_BUFFER_SIZE];
+
+    /**
+     * Number of bytes in the telegram buffer.
+     */
+    private int telegramLength;
+
+    /**
+     * Number of bytes of the telegram buffer that are processed by the CRC calculation.
+     */
+    private int crcLength;
+
+    /**
+     * Offsets in the telegram buffer of the Cosem objects received in the current telegram.
+     */
+    private int[] objectOffsets = new int[OFFSETS_PER_OBJECT * 64];
+
+    /**
+     * Number of Cosem objects received in the current telegram.
      */
-    private final StringBuilder obisId = new StringBuilder();
+    private int objectCount;
 
     /**
-     * Current cosem object values buffer.
+     * Start of the current OBIS identifier in the telegram buffer or -1 if none.
      */
-    private final StringBuilder obisValue = new StringBuilder();
+    private int obisIdStart = -1;
+
+    /**
+     * Start of the values of the current Cosem object in the telegram buffer or -1 if none.
+     */
+    private int obisValueStart = -1;
+
+    /**
+     * Raw data, Cosem object offsets and the Cosem objects of the previous telegram, to detect unchanged objects.
+     */
+    private byte[] previousTelegram = new byte[INITIAL_BUFFER_SIZE];
+    private int[] previousObjectOffsets = new int[OFFSETS_PER_OBJECT * 64];
+    private @Nullable CosemObject[] previousCosemObjects = new CosemObject[0];
+    private int previousObjectCount;
 
     /**
      * In lenient mode store raw data and log when a complete message is received.
@@ -87,7 +137,17 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * Current crc value read.
      */
-    private final StringBuilder crcValue = new StringBuilder();
+    private int crcValue;
+
+    /**
+     * Number of crc characters read.
+     */
+    private int crcCharacters;
+
+    /**
+     * Whether all crc characters read are valid hexadecimal characters.
+     */
+    private boolean crcValid = true;
 
     /**
      * CRC calculation helper
@@ -114,16 +174,6 @@ public class P1TelegramParser implements TelegramParser {
      */
     private final CosemObjectFactory factory;
 
-    /**
-     * Received Cosem Objects in the P1Telegram that is currently received
-     */
-    private final List<Entry<String, String>> cosemObjects = new ArrayList<>();
-
-    /**
-     * List of Cosem Object values that are not known to this binding.
-     */
-    private final List<Entry<String, String>> unknownCosemObjects = new ArrayList<>();
-
     /**
      * Listener for new P1 telegrams
      */
@@ -253,10 +303,13 @@ public class P1TelegramParser implements TelegramParser {
                      * P1 telegram is correctly finished
                      */
                     if (c == '\r' || c == '/') {
-                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("telegramState {}, crcValue to check 0x{}", telegramState,
+                                    String.format("%04X", crcValue));
+                        }
                         // Only perform CRC check if telegram is still ok
 
-                        if (telegramState.isEmpty() && crcValue.length() > 0) {
+                        if (telegramState.isEmpty() && crcCharacters > 0) {
                             telegramState = checkCRC();
                         }
                         processTelegram();
@@ -272,26 +325,27 @@ public class P1TelegramParser implements TelegramParser {
                     break;
             }
 
-            handleCharacter(c);
+            handleCharacter(data[i]);
         }
+        updateCRC();
         logger.trace("State after parsing: {}", state);
     }
 
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        if (crcValid && crcCharacters == CRC_LENGTH) {
+            updateCRC();
             final int calculatedCRC = crc.getCurrentCRCCode();
 
             if (logger.isDebugEnabled()) {
-                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValue,
+                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", String.format("%04X", crcValue),
                         String.format("%04X", calculatedCRC));
             }
-            if (crcP1Telegram != calculatedCRC) {
+            if (crcValue != calculatedCRC) {
                 if (test) {
                     throw new IllegalArgumentException(
-                            String.format("Invalid CRC. Read: %s, expected: %04X", crcValue, calculatedCRC));
+                            String.format("Invalid CRC. Read: %04X, expected: %04X", crcValue, calculatedCRC));
                 }
                 logger.trace("CRC value does not match, p1 Telegram failed");
 
@@ -305,36 +359,99 @@ public class P1TelegramParser implements TelegramParser {
         return telegramState;
     }
 
+    /**
+     * Processes the bytes received since the last call in the CRC calculation.
+     */
+    private void updateCRC() {
+        if (crcLength < telegramLength) {
+            crc.processBytes(telegram, crcLength, telegramLength - crcLength);
+            crcLength = telegramLength;
+        }
+    }
+
     private void processTelegram() {
         telegramState.ifPresentOrElse(error -> telegramListener.onError(error, ""),
                 () -> telegramListener.telegramReceived(constructTelegram()));
     }
 
     private P1Telegram constructTelegram() {
-        final List<CosemObject> cosemObjectsCopy = new ArrayList<>();
+        final List<CosemObject> cosemObjects = new ArrayList<>(objectCount);
+        final List<Entry<String, String>> unknownCosemObjects = lenientMode ? new ArrayList<>()
+                : Collections.emptyList();
+        final @Nullable CosemObject[] currentCosemObjects = new CosemObject[objectCount];
+
+        for (int i = 0; i < objectCount; i++) {
+            CosemObject cosemObject = findUnchangedCosemObject(i);
+
+            if (cosemObject == null) {
+                cosemObject = createCosemObject(i, unknownCosemObjects);
+            }
+            if (cosemObject != null) {
+                logger.trace("Adding {} to list of Cosem Objects", cosemObject);
+                cosemObjects.add(cosemObject);
+            }
+            currentCosemObjects[i] = cosemObject;
+        }
+        // Keep the data of this telegram to compare with the next telegram. The old buffers are reused.
+        final byte[] telegramData = telegram;
+        final int[] offsets = objectOffsets;
+
+        telegram = previousTelegram;
+        objectOffsets = previousObjectOffsets;
+        previousTelegram = telegramData;
+        previousObjectOffsets = offsets;
+        previousCosemObjects = currentCosemObjects;
+        previousObjectCount = objectCount;
 
-        cosemObjects.stream().forEach(e -> addCosemObject(cosemObjectsCopy, e));
         if (lenientMode) {
-            return new P1Telegram(cosemObjectsCopy, rawData.toString(),
-                    unknownCosemObjects.isEmpty() ? Collections.emptyList() : new ArrayList<>(unknownCosemObjects));
+            return new P1Telegram(cosemObjects, rawData.toString(),
+                    unknownCosemObjects.isEmpty() ? Collections.emptyList() : unknownCosemObjects);
         } else {
-            return new P1Telegram(cosemObjectsCopy);
+            return new P1Telegram(cosemObjects);
         }
     }
 
-    private void addCosemObject(final List<CosemObject> objects, final Entry<String, String> cosemEntry) {
-        final String obisIdString = cosemEntry.getKey();
-        final String obisValueString = cosemEntry.getValue();
-        final CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+    /**
+     * Returns the Cosem object of the previous telegram if the raw data of the object at the same position in the
+     * previous telegram is the same as the given object.
+     *
+     * @param index index of the Cosem object in the current telegram
+     * @return the previous Cosem object or null if it changed
+     */
+    private @Nullable CosemObject findUnchangedCosemObject(final int index) {
+        if (index >= previousObjectCount) {
+            return null;
+        }
+        final int offset = index * OFFSETS_PER_OBJECT;
+        final boolean unchanged = Arrays.equals(telegram, objectOffsets[offset], objectOffsets[offset + 2],
+                previousTelegram, previousObjectOffsets[offset], previousObjectOffsets[offset + 2]);
 
-        if (cosemObject == null) {
-            if (lenientMode) {
-                unknownCosemObjects.add(new SimpleEntry<>(obisIdString, obisValueString));
-            }
+        return unchanged ? previousCosemObjects[index] : null;
+    }
+
+    private @Nullable CosemObject createCosemObject(final int index,
+            final List<Entry<String, String>> unknownCosemObjects) {
+        final int offset = index * OFFSETS_PER_OBJECT;
+        final int start = objectOffsets[offset];
+        final int valueStart = objectOffsets[offset + 1];
+        final int end = objectOffsets[offset + 2];
+        final OBISIdentifier obisId = OBISIdentifier.parse(telegram, start, valueStart - start);
+        final String obisValueString = new String(telegram, valueStart, end - valueStart,
+                StandardCharsets.ISO_8859_1);
+        final CosemObject cosemObject;
+
+        if (obisId == null) {
+            logger.debug("Received invalid OBIS identifier: {}",
+                    new String(telegram, start, valueStart - start, StandardCharsets.ISO_8859_1));
+            cosemObject = null;
         } else {
-            logger.trace("Adding {} to list of Cosem Objects", cosemObject);
-            objects.add(cosemObject);
+            cosemObject = factory.getCosemObject(obisId, obisValueString);
+        }
+        if (cosemObject == null && lenientMode) {
+            unknownCosemObjects.add(new SimpleEntry<>(
+                    new String(telegram, start, valueStart - start, StandardCharsets.ISO_8859_1), obisValueString));
         }
+        return cosemObject;
     }
 
     @Override
@@ -355,38 +472,27 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Stores a single character
+     * Stores a single byte
      *
-     * @param c the character to process
+     * @param b the byte to process
      */
-    private void handleCharacter(final char c) {
+    private void handleCharacter(final byte b) {
         switch (state) {
             case WAIT_FOR_START:
                 // ignore the data
                 break;
             case HEADER:
-                crc.processByte((byte) c);
-                break;
             case CRLF:
-                crc.processByte((byte) c);
-                break;
             case DATA_OBIS_ID:
-                obisId.append(c);
-                crc.processByte((byte) c);
-                break;
             case DATA_OBIS_VALUE:
-                obisValue.append(c);
-                crc.processByte((byte) c);
-                break;
             case DATA_OBIS_VALUE_END:
-                obisValue.append(c);
-                crc.processByte((byte) c);
+                storeByte(b);
                 break;
             case CRC_VALUE:
-                if (c == '!') {
-                    crc.processByte((byte) c);
+                if (b == '!') {
+                    storeByte(b);
                 } else {
-                    crcValue.append(c);
+                    storeCRCCharacter(b);
                 }
                 // CRC data is not part of received data
                 break;
@@ -395,17 +501,34 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
+    private void storeByte(final byte b) {
+        if (telegramLength == telegram.length) {
+            telegram = Arrays.copyOf(telegram, telegram.length * 2);
+        }
+        telegram[telegramLength++] = b;
+    }
+
+    private void storeCRCCharacter(final byte b) {
+        final int digit = Character.digit(b, 16);
+
+        crcValid &= digit >= 0;
+        crcValue = (crcValue << 4) | (digit & 0xF);
+        crcCharacters++;
+    }
+
     /**
      * Clears all internal state
      */
     private void clearInternalData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        clearObisData();
         rawData.setLength(0);
-        crcValue.setLength(0);
+        telegramLength = 0;
+        crcLength = 0;
+        crcValue = 0;
+        crcCharacters = 0;
+        crcValid = true;
         crc.initialize();
-        cosemObjects.clear();
-        unknownCosemObjects.clear();
+        objectCount = 0;
     }
 
     /**
@@ -414,18 +537,24 @@ public class P1TelegramParser implements TelegramParser {
      * - current OBIS value
      */
     private void clearObisData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        obisIdStart = -1;
+        obisValueStart = -1;
     }
 
     /**
-     * Store the current CosemObject in the list of received cosem Objects
+     * Store the offsets of the current CosemObject in the list of received cosem Objects
      */
     private void storeCurrentCosemObject() {
-        final String obisIdString = obisId.toString();
+        if (obisIdStart >= 0 && obisIdStart < telegramLength) {
+            if (objectCount * OFFSETS_PER_OBJECT == objectOffsets.length) {
+                objectOffsets = Arrays.copyOf(objectOffsets, objectOffsets.length * 2);
+            }
+            final int offset = objectCount * OFFSETS_PER_OBJECT;
 
-        if (!obisIdString.isEmpty()) {
-            cosemObjects.add(new SimpleEntry<>(obisIdString, obisValue.toString()));
+            objectOffsets[offset] = obisIdStart;
+            objectOffsets[offset + 1] = obisValueStart < 0 ? telegramLength : obisValueStart;
+            objectOffsets[offset + 2] = telegramLength;
+            objectCount++;
         }
         clearObisData();
     }
@@ -439,6 +568,9 @@ public class P1TelegramParser implements TelegramParser {
                 case HEADER:
                     // Clear CRC data and mark current telegram as OK
                     crc.initialize();
+                    telegramLength = 0;
+                    crcLength = 0;
+                    objectCount = 0;
                     break;
                 case WAIT_FOR_START:
                     // Clears internal state data and mark current telegram as OK
@@ -450,6 +582,12 @@ public class P1TelegramParser implements TelegramParser {
                     if (state != State.CRLF) {
                         storeCurrentCosemObject();
                     }
+                    obisIdStart = telegramLength;
+                    break;
+                case DATA_OBIS_VALUE:
+                    if (obisValueStart < 0) {
+                        obisValueStart = telegramLength;
+                    }
                     break;
                 case CRC_VALUE:
                     storeCurrentCosemObject();
@@ -13,7 +13,9 @@
 package org.openhab.binding.dsmr.internal.handler;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +66,11 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
      */
     private List<CosemObject> lastReceivedValues = Collections.emptyList();
 
+    /**
+     * Last state sent per channel. Used to only update channels when the value changed.
+     */
+    private final Map<String, State> lastStates = new HashMap<>();
+
     /**
      * Reference to the meter watchdog.
      */
@@ -89,7 +96,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
     @Override
     public void handleCommand(final ChannelUID channelUID, final Command command) {
         if (command == RefreshType.REFRESH) {
-            updateState();
+            refreshState(channelUID);
         }
     }
 
@@ -117,6 +124,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
         channel = meterType.meterKind.isChannelRelevant() ? meterConfig.channel : DSMRMeterConstants.UNKNOWN_CHANNEL;
         final DSMRMeterDescriptor meterDescriptor = new DSMRMeterDescriptor(meterType, channel);
         meter = new DSMRMeter(meterDescriptor);
+        clearLastStates();
         meterWatchdog = scheduler.scheduleWithFixedDelay(this::updateState, meterConfig.refresh, meterConfig.refresh,
                 TimeUnit.SECONDS);
         updateStatus(ThingStatus.UNKNOWN);
@@ -130,10 +138,27 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
         }
     }
 
+    /**
+     * Sends the last known state of the channel again.
+     *
+     * @param channelUID channel to refresh
+     */
+    private synchronized void refreshState(final ChannelUID channelUID) {
+        final State state = lastStates.get(channelUID.getId());
+
+        if (state != null) {
+            updateState(channelUID, state);
+        }
+    }
+
+    private synchronized void clearLastStates() {
+        lastStates.clear();
+    }
+
     /**
      * Updates the state of all channels from the last received Cosem values from the meter. The lastReceivedValues are
      * cleared after processing here so when it does contain values the next time this method is called and it contains
-     * values those are new values.
+     * values those are new values. Only channels of which the value changed since the last update are updated.
      */
     private synchronized void updateState() {
         logger.trace("Update state for device: {}", getThing().getThingTypeUID().getId());
@@ -145,8 +170,11 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
                             + (entry.getKey().isEmpty() ? "" : "_" + entry.getKey());
 
                     final State newState = entry.getValue();
-                    logger.debug("Updating state for channel {} to value {}", channel, newState);
-                    updateState(channel, newState);
+
+                    if (!newState.equals(lastStates.put(channel, newState))) {
+                        logger.debug("Updating state for channel {} to value {}", channel, newState);
+                        updateState(channel, newState);
+                    }
                 }
             }
             if (ThingHandlerHelper.isHandlerInitialized(getThing()) && getThing().getStatus() != ThingStatus.ONLINE) {
@@ -218,6 +246,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
      */
     private void setDeviceOffline(final ThingStatusDetail status, @Nullable final String details) {
         updateStatus(ThingStatus.OFFLINE, status, details);
+        clearLastStates();
         getThing().getChannels().forEach(c -> updateState(c.getUID(), UnDefType.NULL));
     }
 }
@@ -13,14 +13,23 @@
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil.P1TelegramListenerImpl;
+import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 
 /**
  * Test class for {@link P1TelegramParser}.
@@ -61,4 +70,63 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    /**
+     * Replays the recorded telegrams through a single parser, like a meter sending the same telegram every second.
+     * Cosem objects of which the raw data didn't change must be reused from the previous telegram.
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testReplay(final String telegramName, final int numberOfCosemObjects, final int unknownObjects) {
+        final byte[] rawTelegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener, true);
+        List<CosemObject> firstCosemObjects = List.of();
+
+        parser.setLenientMode(true);
+        for (int i = 0; i < 1000; i++) {
+            parser.parse(rawTelegram, rawTelegram.length);
+            final P1Telegram telegram = listener.telegram;
+
+            assertNotNull(telegram, "Telegram should have been received in replay " + i);
+            assertNull(listener.state, "No error expected in replay " + i);
+            assertEquals(unknownObjects, telegram.getUnknownCosemObjects().size());
+            if (i == 0) {
+                firstCosemObjects = telegram.getCosemObjects();
+            } else {
+                final List<CosemObject> cosemObjects = telegram.getCosemObjects();
+
+                assertEquals(firstCosemObjects.size(), cosemObjects.size());
+                for (int j = 0; j < cosemObjects.size(); j++) {
+                    assertSame(firstCosemObjects.get(j), cosemObjects.get(j), "Unchanged object should be reused");
+                }
+            }
+            listener.telegram = null;
+        }
+    }
+
+    @Test
+    public void testOnlyChangedObjectsAreParsedAgain() {
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener, true);
+
+        parse(parser, "/ISk5\\2MT382-1000\r\n\r\n1-3:0.2.8(50)\r\n1-0:1.7.0(01.193*kW)\r\n!\r\n");
+        final P1Telegram first = listener.telegram;
+        parse(parser, "/ISk5\\2MT382-1000\r\n\r\n1-3:0.2.8(50)\r\n1-0:1.7.0(01.250*kW)\r\n!\r\n");
+        final P1Telegram second = listener.telegram;
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(2, second.getCosemObjects().size());
+        assertSame(first.getCosemObjects().get(0), second.getCosemObjects().get(0));
+        assertNotSame(first.getCosemObjects().get(1), second.getCosemObjects().get(1));
+        assertNotEquals(first.getCosemObjects().get(1).getCosemValues(),
+                second.getCosemObjects().get(1).getCosemValues());
+    }
+
+    private static void parse(final P1TelegramParser parser, final String telegram) {
+        final byte[] data = telegram.getBytes(StandardCharsets.US_ASCII);
+
+        parser.parse(data, data.length);
+    }
 }
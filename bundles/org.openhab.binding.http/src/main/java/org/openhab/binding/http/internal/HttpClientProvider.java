@@ -14,6 +14,7 @@ package org.openhab.binding.http.internal;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
+import org.openhab.binding.http.internal.http.HttpRequestCoalescer;
 
 /**
  * The {@link HttpClientProvider} defines the interface for providing {@link HttpClient} instances to thing handlers
@@ -36,4 +37,11 @@ public interface HttpClientProvider {
      * @return q HttpClient
      */
     HttpClient getInsecureClient();
+
+    /**
+     * get the request coalescer shared by all things
+     *
+     * @return a HttpRequestCoalescer
+     */
+    HttpRequestCoalescer getRequestCoalescer();
 }
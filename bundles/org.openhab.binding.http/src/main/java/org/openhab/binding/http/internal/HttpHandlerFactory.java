@@ -14,12 +14,15 @@ package org.openhab.binding.http.internal;
 
 import static org.openhab.binding.http.internal.HttpBindingConstants.THING_TYPE_URL;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.openhab.binding.http.internal.http.HttpRequestCoalescer;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.thing.Thing;
@@ -44,10 +47,12 @@ import org.slf4j.LoggerFactory;
 @Component(configurationPid = "binding.http", service = ThingHandlerFactory.class)
 public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpClientProvider {
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_TYPE_URL);
+    private static final String CONFIG_MAX_CONNECTIONS_PER_HOST = "maxConnectionsPerHost";
     private final Logger logger = LoggerFactory.getLogger(HttpHandlerFactory.class);
 
     private final HttpClient secureClient;
     private final HttpClient insecureClient;
+    private final HttpRequestCoalescer requestCoalescer = new HttpRequestCoalescer();
 
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
@@ -55,12 +60,19 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
     @Activate
     public HttpHandlerFactory(@Reference HttpClientFactory httpClientFactory,
             @Reference HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            @Reference TimeZoneProvider timeZoneProvider) {
+            @Reference TimeZoneProvider timeZoneProvider, Map<String, Object> config) {
         this.secureClient = new HttpClient(new SslContextFactory.Client());
         this.insecureClient = new HttpClient(new SslContextFactory.Client(true));
         // clear user agent, this needs to be set later in the thing configuration as additional header
         this.secureClient.setUserAgentField(null);
         this.insecureClient.setUserAgentField(null);
+        // all things share the connection pools, so limiting the connections per host protects slow devices
+        int maxConnectionsPerHost = ConfigParser.valueAsOrElse(config.get(CONFIG_MAX_CONNECTIONS_PER_HOST),
+                Integer.class, 0);
+        if (maxConnectionsPerHost > 0) {
+            this.secureClient.setMaxConnectionsPerDestination(maxConnectionsPerHost);
+            this.insecureClient.setMaxConnectionsPerDestination(maxConnectionsPerHost);
+        }
         try {
             this.secureClient.start();
             this.insecureClient.start();
@@ -109,4 +121,9 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
     public HttpClient getInsecureClient() {
         return insecureClient;
     }
+
+    @Override
+    public HttpRequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
 }
@@ -335,7 +335,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             Objects.requireNonNull(
                     urlHandlers.computeIfAbsent(key,
                             k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
+                                    channelConfig.stateContent, config.contentType, this,
+                                    httpClientProvider.getRequestCoalescer())))
                     .addConsumer(itemValueConverter::process);
         }
 
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+/**
+ * The {@link HttpRequestCoalescer} is shared by all things and merges identical state requests which are in flight
+ * at the same time into a single request
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpRequestCoalescer {
+    private final Map<String, SharedRequest> requests = new HashMap<>();
+
+    /**
+     * Get the in-flight request for the given key or start a new one
+     *
+     * @param key a key identifying the request, including everything that has an influence on the response
+     * @param participant the object that wants to send the request
+     * @param statusListener the listener to notify when the request completes
+     * @return the shared request, {@link SharedRequest#isOwner(Object)} tells if the participant has to send it
+     */
+    public synchronized SharedRequest acquire(String key, Object participant, HttpStatusListener statusListener) {
+        SharedRequest request = requests.get(key);
+        if (request == null) {
+            request = new SharedRequest(key, participant, statusListener);
+            requests.put(key, request);
+        } else {
+            request.statusListeners.add(statusListener);
+        }
+        return request;
+    }
+
+    private synchronized void release(SharedRequest request) {
+        requests.remove(request.key, request);
+    }
+
+    /**
+     * The {@link SharedRequest} distributes the result and the status of a request to all participants
+     */
+    public class SharedRequest implements HttpStatusListener {
+        private final String key;
+        private final Object owner;
+        private final Set<HttpStatusListener> statusListeners = new CopyOnWriteArraySet<>();
+        private final CompletableFuture<@Nullable ChannelHandlerContent> future = new CompletableFuture<>();
+        private volatile @Nullable String eTag;
+        private volatile @Nullable String lastModified;
+
+        private SharedRequest(String key, Object owner, HttpStatusListener statusListener) {
+            this.key = key;
+            this.owner = owner;
+            statusListeners.add(statusListener);
+        }
+
+        public boolean isOwner(Object participant) {
+            return owner == participant;
+        }
+
+        public CompletableFuture<@Nullable ChannelHandlerContent> getFuture() {
+            return future;
+        }
+
+        public void setValidators(@Nullable String eTag, @Nullable String lastModified) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        public @Nullable String getETag() {
+            return eTag;
+        }
+
+        public @Nullable String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Complete the request with the result of the owner. No further participants can join afterwards.
+         */
+        public void complete(@Nullable ChannelHandlerContent content, @Nullable Throwable throwable) {
+            release(this);
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(content);
+            }
+        }
+
+        @Override
+        public void onHttpError(@Nullable String message) {
+            statusListeners.forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            statusListeners.forEach(HttpStatusListener::onHttpSuccess);
+        }
+    }
+}
@@ -15,10 +15,16 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,9 +35,14 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpRequestCoalescer.SharedRequest;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,12 +69,32 @@ public class RefreshingUrlCache {
     private final String httpContent;
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
+    private final boolean skipUnchanged;
+    private final boolean ignoreSSLErrors;
+    private final String credentialsDigest;
+    private final @Nullable HttpRequestCoalescer requestCoalescer;
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
 
+    // validators of the last response, sent with the next request to allow a 304 response
+    private volatile @Nullable String lastETag;
+    private volatile @Nullable String lastModified;
+
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
+        this(httpClient, url, thingConfig, httpContent, httpContentType, httpStatusListener, null);
+    }
+
+    /**
+     * Create a new cache
+     *
+     * @param requestCoalescer if set, GET requests which are identical to a request of another cache that is still in
+     *            flight are not sent again but share the response
+     */
+    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
+            @Nullable HttpRequestCoalescer requestCoalescer) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
@@ -74,6 +105,12 @@ public class RefreshingUrlCache {
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
+        this.skipUnchanged = thingConfig.skipUnchanged;
+        this.ignoreSSLErrors = thingConfig.ignoreSSLErrors;
+        // the length of the user name keeps the boundary between user name and password unambiguous
+        this.credentialsDigest = digest(thingConfig.authMode + ":" + thingConfig.username.length() + ":"
+                + thingConfig.username + thingConfig.password);
+        this.requestCoalescer = requestCoalescer;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -111,35 +148,44 @@ public class RefreshingUrlCache {
             URI uri = Util.uriFromString(String.format(this.url, new Date()));
             logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
 
+            HttpRequestCoalescer requestCoalescer = this.requestCoalescer;
+            @Nullable SharedRequest sharedRequest = requestCoalescer != null && httpMethod == HttpMethod.GET
+                    ? requestCoalescer.acquire(getRequestKey(uri), this, httpStatusListener)
+                    : null;
+
+            CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+            if (sharedRequest == null) {
+                handleResponse(responseContentFuture, uri, isRetry, true);
+            } else if (sharedRequest.isOwner(this)) {
+                // the response is passed on to all caches that joined the request in the meantime
+                responseContentFuture.whenComplete(sharedRequest::complete);
+                handleResponse(sharedRequest, uri, isRetry, true);
+            } else {
+                logger.trace("Joining in-flight request to '{}'", uri);
+                handleResponse(sharedRequest, uri, isRetry, false);
+                return;
+            }
+
+            HttpStatusListener statusListener = sharedRequest != null ? sharedRequest : httpStatusListener;
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
-
-                CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
-                            httpStatusListener.onHttpError("Authentication failed");
-                        } else {
-                            refresh(true);
-                        }
-                    }
-                    return null;
-                }).thenAccept(this::processResult);
+                addConditionalHeaders(request, sharedRequest);
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
                 request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                        statusListener));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
                 } else {
                     logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
                 }
+                // release the request, so that waiting caches do not wait forever
+                responseContentFuture.completeExceptionally(e);
                 return null;
             });
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
@@ -147,6 +193,64 @@ public class RefreshingUrlCache {
         }
     }
 
+    private void handleResponse(SharedRequest sharedRequest, URI uri, boolean isRetry, boolean isOwner) {
+        sharedRequest.getFuture().whenComplete((content, t) -> {
+            if (!isOwner && t == null && content != null) {
+                // take over the validators of the shared response for the next conditional request
+                lastETag = sharedRequest.getETag();
+                lastModified = sharedRequest.getLastModified();
+            }
+        });
+        handleResponse(sharedRequest.getFuture(), uri, isRetry, isOwner);
+    }
+
+    private void handleResponse(CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture, URI uri,
+            boolean isRetry, boolean isOwner) {
+        responseContentFuture.whenComplete((content, t) -> {
+            if (t instanceof HttpNotModifiedException) {
+                logger.trace("Content of '{}' was not modified", uri);
+                processUnchangedResult();
+                return;
+            } else if (t instanceof HttpAuthException) {
+                if (!isOwner && !isRetry) {
+                    // only the cache that sent the request re-authenticates, the others simply try again
+                    refresh(true);
+                } else if (isRetry || !httpClient.reAuth(uri)) {
+                    logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
+                    httpStatusListener.onHttpError("Authentication failed");
+                } else {
+                    refresh(true);
+                }
+            } else if (t != null) {
+                // the request could not be sent
+                return;
+            }
+            processResult(t == null ? content : null);
+        });
+    }
+
+    private String getRequestKey(URI uri) {
+        StringBuilder key = new StringBuilder(httpMethod.asString()).append(' ').append(uri);
+        new TreeMap<>(headers).forEach((name, value) -> key.append('\n').append(name).append(": ").append(value));
+        key.append('\n').append(fallbackEncoding).append('|').append(bufferSize).append('|').append(ignoreSSLErrors)
+                .append('|').append(credentialsDigest).append('|').append(lastETag).append('|').append(lastModified);
+        return key.toString();
+    }
+
+    /**
+     * The request key must distinguish all credentials but should not contain them in plain text, so a SHA-256 digest
+     * of them is used.
+     */
+    private static String digest(String credentials) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
         consumers.add(consumer);
     }
@@ -155,16 +259,63 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
+    private void addConditionalHeaders(Request request, @Nullable SharedRequest sharedRequest) {
+        if (httpMethod != HttpMethod.GET) {
+            return;
+        }
+        String lastETag = this.lastETag;
+        if (lastETag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, lastETag);
+        }
+        String lastModified = this.lastModified;
+        if (lastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+        }
+        request.onResponseHeaders(response -> {
+            if (response.getStatus() == HttpStatus.OK_200) {
+                HttpFields fields = response.getHeaders();
+                this.lastETag = fields.get(HttpHeader.ETAG);
+                this.lastModified = fields.get(HttpHeader.LAST_MODIFIED);
+                if (sharedRequest != null) {
+                    sharedRequest.setValidators(this.lastETag, this.lastModified);
+                }
+            }
+        });
+    }
+
+    private void processUnchangedResult() {
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (!skipUnchanged && lastContent != null) {
+            // the server did not send the content again, so we pass the last content to the channels
+            notifyConsumers(lastContent);
+        }
+    }
+
     private void processResult(@Nullable ChannelHandlerContent content) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (skipUnchanged && content != null && lastContent != null
+                && Arrays.equals(content.getRawContent(), lastContent.getRawContent())) {
+            logger.trace("Content of '{}' is unchanged, skipping channel updates", url);
+            return;
+        }
         if (content != null || strictErrorHandling) {
-            for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
-                try {
-                    consumer.accept(content);
-                } catch (IllegalArgumentException | IllegalStateException e) {
-                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
-                }
+            notifyConsumers(content);
+        }
+        this.lastContent = content;
+        if (content == null) {
+            // the next request must fetch the full content
+            lastETag = null;
+            lastModified = null;
+        }
+    }
+
+    private void notifyConsumers(@Nullable ChannelHandlerContent content) {
+        for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
+            try {
+                consumer.accept(content);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
             }
         }
-        lastContent = content;
     }
 }
@@ -13,7 +13,10 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -29,10 +32,19 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -43,11 +55,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpRequestCoalescer;
+import org.openhab.binding.http.internal.http.HttpRequestCoalescer.SharedRequest;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.sun.net.httpserver.HttpServer;
+
 /**
  * The {@link RefreshingUrlCacheTest} implements tests for the {@link RefreshingUrlCache}
  *
@@ -111,6 +128,133 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
                 .allMatch(TEST_CONTENT::equals));
     }
 
+    @Test
+    public void testLastContentIsUsedOnNotModified() {
+        String etag = "\"v1\"";
+        WireMock.resetAllRequests();
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo(etag))
+                .willReturn(aResponse().withStatus(304)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(5)
+                .willReturn(aResponse().withHeader("ETag", etag).withBody(TEST_CONTENT)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertEquals(3, contentWrappers.size()));
+        urlCache.stop();
+
+        // the validator of the first response is sent with the following requests
+        WireMock.verify(1, getRequestedFor(urlEqualTo(TEST_LOCATION)).withoutHeader("If-None-Match"));
+        WireMock.verify(moreThanOrExactly(2),
+                getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(etag)));
+        verify(statusListener, never()).onHttpError(any());
+
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+    }
+
+    @Test
+    public void testNotModifiedToUnconditionalRequestIsError() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        verify(statusListener, timeout(5000).atLeast(2)).onHttpError(any());
+        urlCache.stop();
+
+        // no validators were received, so the requests stay unconditional
+        WireMock.verify(moreThanOrExactly(2),
+                getRequestedFor(urlEqualTo(TEST_LOCATION)).withoutHeader("If-None-Match"));
+        verify(statusListener, never()).onHttpSuccess();
+    }
+
+    @Test
+    public void testNoUpdateOnUnchangedContentIfSkipUnchanged() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait for three responses, only the first one is passed to the consumers
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testIdenticalRequestsAreCoalesced() throws IOException, InterruptedException {
+        thingConfig.username = "Aa";
+        assertEquals(1, countRequestsOfTwoCaches("Aa"));
+    }
+
+    @Test
+    public void testRequestsWithDifferentCredentialsAreNotCoalesced() throws IOException, InterruptedException {
+        // both user names have the same hash code
+        thingConfig.username = "Aa";
+        assertEquals(2, countRequestsOfTwoCaches("BB"));
+    }
+
+    /**
+     * Refreshes two caches once with a shared coalescer. The stub server holds back all responses until both caches
+     * have acquired their request from the coalescer, so a request of the first cache is still in flight when the
+     * second cache refreshes.
+     *
+     * @param secondUsername the user name of the second cache
+     * @return the number of requests received by the server
+     */
+    private int countRequestsOfTwoCaches(String secondUsername) throws IOException, InterruptedException {
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch acquired = new CountDownLatch(2);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(TEST_LOCATION, exchange -> {
+            requests.incrementAndGet();
+            try {
+                acquired.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = TEST_CONTENT.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        HttpRequestCoalescer requestCoalescer = new HttpRequestCoalescer() {
+            @Override
+            public synchronized SharedRequest acquire(String key, Object participant,
+                    HttpStatusListener statusListener) {
+                SharedRequest request = super.acquire(key, participant, statusListener);
+                acquired.countDown();
+                return request;
+            }
+        };
+        url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + TEST_LOCATION;
+        thingConfig.timeout = 10000;
+        thingConfig.refresh = 3600;
+
+        try {
+            RefreshingUrlCache urlCache1 = getUrlCache(TEST_CONTENT, requestCoalescer);
+            thingConfig.username = secondUsername;
+            RefreshingUrlCache urlCache2 = getUrlCache(TEST_CONTENT, requestCoalescer);
+
+            // both caches receive the content, no matter whether they shared the request
+            waitForAssert(() -> assertEquals(2, contentWrappers.size()));
+            urlCache1.stop();
+            urlCache2.stop();
+        } finally {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+
+        verify(statusListener, never()).onHttpError(any());
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+        return requests.get();
+    }
+
     @Test
     public void testNoUpdateOn404ErrorInNormalMode() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(404)));
@@ -252,8 +396,19 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
      * @return the cache object
      */
     private RefreshingUrlCache getUrlCache(String content) {
+        return getUrlCache(content, null);
+    }
+
+    /**
+     * helper method to create a {@link RefreshingUrlCache} with a request coalescer and add a test listener
+     *
+     * @param content HTTP content
+     * @param requestCoalescer the coalescer shared by the caches
+     * @return the cache object
+     */
+    private RefreshingUrlCache getUrlCache(String content, @Nullable HttpRequestCoalescer requestCoalescer) {
         RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, content, null,
-                statusListener);
+                statusListener, requestCoalescer);
         urlCache.addConsumer(contentWrappers::add);
         urlCache.start(scheduler, thingConfig.refresh);
         return urlCache;
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * The {@link EventLoopTasks} schedules the delayed tasks of one camera on the event loop group that is shared by all
+ * cameras. Stopping cancels the pending tasks of the camera, and a task that was scheduled before the camera was
+ * stopped does not run even if the camera has been started again in the meantime.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventLoopTasks {
+    private final EventLoopGroup eventLoopGroup;
+    private final Set<ScheduledFuture<?>> pendingTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean active = false;
+    private volatile int generation = 0;
+
+    public EventLoopTasks(EventLoopGroup eventLoopGroup) {
+        this.eventLoopGroup = eventLoopGroup;
+    }
+
+    public synchronized void start() {
+        active = true;
+    }
+
+    public synchronized void stop() {
+        active = false;
+        generation++;
+        for (ScheduledFuture<?> task : pendingTasks) {
+            task.cancel(false);
+        }
+        pendingTasks.clear();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Schedules a task on the shared event loop, the task is ignored if the camera is not started.
+     */
+    public void schedule(Runnable task, long delay, TimeUnit unit) {
+        int scheduledGeneration = generation;
+        if (!active) {
+            return;
+        }
+        ScheduledFuture<?> future = eventLoopGroup.schedule(() -> {
+            if (active && generation == scheduledGeneration) {
+                task.run();
+            }
+        }, delay, unit);
+        pendingTasks.add(future);
+        future.addListener(completed -> pendingTasks.remove(future));
+    }
+
+    int getPendingTaskCount() {
+        return pendingTasks.size();
+    }
+}
@@ -18,9 +18,13 @@ import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be given to all FIFO buffers to allow
+ * 1 to many streams without needing to open more than 1 source stream. The frames are not copied per stream, each
+ * stream holds a reference to the same buffer.
  *
  * @author Matthew Skinner - Initial contribution
  */
@@ -35,6 +39,7 @@ public class OpenStreams {
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        stream.discardFrames();
     }
 
     public synchronized int getNumberOfStreams() {
@@ -52,9 +57,23 @@ public class OpenStreams {
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    public void queueFrame(byte[] frame) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        try {
+            queueFrame(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Queues the frame for all open streams. The reference of the caller to the frame is not released.
+     *
+     * @param frame the frame to queue
+     */
+    public synchronized void queueFrame(ByteBuf frame) {
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.queueFrame(frame.retain());
         }
     }
 
@@ -15,27 +15,39 @@ package org.openhab.binding.ipcamera.internal.servlet;
 import java.io.IOException;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
  *
+ * Frames are queued as reference counted {@link ByteBuf}s which are shared with all other clients, each queued frame
+ * holds one reference which is released when the frame is sent or dropped. When the client can't keep up and the queue
+ * is full, frames are dropped instead of blocking the camera connection.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final int MAX_QUEUED_FRAMES = 50;
+    private static final long POLL_TIMEOUT_SECONDS = 5;
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private final BlockingQueue<ByteBuf> fifo = new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES);
+    private volatile boolean closed = false;
+    private boolean waitForBoundary = false;
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
@@ -74,13 +86,98 @@ public class StreamOutput {
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    private void sendSnapshotBasedFrame(ByteBuf frame) throws IOException {
+        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
+                + frame.readableBytes() + "\r\n\r\n";
+        if (!connected) {
+            sendInitialHeaders();
+            // iOS needs to have two jpgs sent for the picture to appear instantly.
+            output.write(header.getBytes());
+            frame.getBytes(frame.readerIndex(), output, frame.readableBytes());
+            output.write("\r\n".getBytes());
+            connected = true;
+        }
+        output.write(header.getBytes());
+        frame.getBytes(frame.readerIndex(), output, frame.readableBytes());
+        output.write("\r\n".getBytes());
+    }
+
+    /**
+     * Queues a frame to be sent to the client. The queue takes over the reference to the frame that is passed in.
+     * If the queue is full, frames of snapshot based streams are dropped from the start of the queue. For a stream
+     * from the camera all queued data is dropped and the stream resumes at the next boundary, so the client does not
+     * receive broken pictures.
+     *
+     * @param frame the frame with one reference for this stream
+     */
+    public void queueFrame(ByteBuf frame) {
+        if (closed) {
+            frame.release();
+            return;
+        }
+        ByteBuf data = waitForBoundary ? sliceFromBoundary(frame) : frame;
+        if (data == null) {
+            return;
+        }
+        if (!fifo.offer(data)) {
+            if (isSnapshotBased) {
+                logger.debug("FIFO buffer has run out of space, dropping the oldest frame");
+                releaseFrame(fifo.poll());
+            } else {
+                logger.debug("FIFO buffer has run out of space, dropping frames until the next boundary");
+                discardFrames();
+                waitForBoundary = true;
+                data = sliceFromBoundary(data);
+            }
+            if (data != null && !fifo.offer(data)) {
+                data.release();
+            }
+        }
+        if (closed) {
+            discardFrames();
+        }
+    }
+
+    /**
+     * Returns the part of the frame that starts with a multipart boundary, i.e. "--" at the start of a line.
+     * The reference to the frame is transferred to the returned part, or released if no boundary is found.
+     *
+     * @param frame the frame to search
+     * @return the frame starting at the boundary or null if the frame contains no boundary
+     */
+    @Nullable ByteBuf sliceFromBoundary(ByteBuf frame) {
+        int start = frame.readerIndex();
+        int end = frame.writerIndex() - 1;
+        for (int i = start; i < end; i++) {
+            if (frame.getByte(i) == '-' && frame.getByte(i + 1) == '-'
+                    && (i == start || frame.getByte(i - 1) == '\n')) {
+                waitForBoundary = false;
+                if (i == start) {
+                    return frame;
+                }
+                // the buffer is shared with other streams, so its reader index must not be changed
+                ByteBuf slice = frame.retainedSlice(i, frame.writerIndex() - i);
+                frame.release();
+                return slice;
+            }
+        }
+        frame.release();
+        return null;
+    }
+
+    private static void releaseFrame(@Nullable ByteBuf frame) {
+        if (frame != null) {
+            frame.release();
+        }
+    }
+
+    /**
+     * Drops all queued frames.
+     */
+    public void discardFrames() {
+        ByteBuf frame;
+        while ((frame = fifo.poll()) != null) {
+            frame.release();
         }
     }
 
@@ -93,10 +190,21 @@ public class StreamOutput {
     }
 
     public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+        if (!isSnapshotBased && !connected) {
+            return;
+        }
+        ByteBuf frame = fifo.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (frame == null) {
+            return;
+        }
+        try {
+            if (isSnapshotBased) {
+                sendSnapshotBasedFrame(frame);
+            } else {
+                frame.getBytes(frame.readerIndex(), output, frame.readableBytes());
+            }
+        } finally {
+            frame.release();
         }
     }
 
@@ -107,6 +215,8 @@ public class StreamOutput {
     }
 
     public void close() {
+        closed = true;
+        discardFrames();
         try {
             output.close();
         } catch (IOException e) {
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+
+/**
+ * Tests the lifecycle of the {@link EventLoopTasks} of a camera.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventLoopTasksTest {
+
+    private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+    private final EventLoopTasks tasks = new EventLoopTasks(eventLoopGroup);
+
+    @AfterEach
+    public void tearDown() {
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void tasksRunOnlyWhileStarted() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        tasks.schedule(runs::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+        assertFalse(tasks.isActive());
+
+        tasks.start();
+        CountDownLatch latch = new CountDownLatch(1);
+        tasks.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void restartedCameraDoesNotRunTasksOfPreviousStart() throws InterruptedException {
+        AtomicInteger staleRuns = new AtomicInteger();
+        tasks.start();
+        tasks.schedule(staleRuns::incrementAndGet, 200, TimeUnit.MILLISECONDS);
+        assertEquals(1, tasks.getPendingTaskCount());
+
+        // dispose() followed by initialize()
+        tasks.stop();
+        assertEquals(0, tasks.getPendingTaskCount());
+        tasks.start();
+
+        assertTrue(tasks.isActive(), "requests must be sent again after the camera was initialized");
+        CountDownLatch latch = new CountDownLatch(1);
+        tasks.schedule(latch::countDown, 400, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, staleRuns.get());
+    }
+
+    @Test
+    public void completedTasksAreNotTracked() throws InterruptedException {
+        tasks.start();
+        CountDownLatch latch = new CountDownLatch(1);
+        tasks.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // the listener which removes the task runs on the event loop after the task itself
+        eventLoopGroup.submit(() -> {
+        }).await(5, TimeUnit.SECONDS);
+        assertEquals(0, tasks.getPendingTaskCount());
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Tests the reference counting of the frames queued in a {@link StreamOutput}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StreamOutputTest {
+
+    private static final int MAX_QUEUED_FRAMES = 50;
+
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                sent.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(@Nullable WriteListener writeListener) {
+            }
+        });
+    }
+
+    @Test
+    public void sentFrameIsReleased() throws Exception {
+        StreamOutput stream = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        ByteBuf frame = frame("--camera\r\njpeg");
+
+        stream.queueFrame(frame);
+        assertEquals(1, frame.refCnt());
+        stream.sendFrame();
+
+        assertEquals(0, frame.refCnt());
+        assertEquals("--camera\r\njpeg", sent.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void sharedFrameIsReleasedByEveryStream() throws Exception {
+        StreamOutput first = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        StreamOutput second = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        ByteBuf frame = frame("--camera\r\njpeg");
+
+        // one reference for each stream
+        first.queueFrame(frame.retain());
+        second.queueFrame(frame);
+        first.sendFrame();
+        assertEquals(1, frame.refCnt());
+
+        second.close();
+        assertEquals(0, frame.refCnt());
+    }
+
+    @Test
+    public void closedStreamReleasesQueuedAndNewFrames() throws IOException {
+        StreamOutput stream = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        ByteBuf queued = frame("--camera\r\njpeg");
+        stream.queueFrame(queued);
+
+        stream.close();
+        ByteBuf late = frame("--camera\r\njpeg");
+        stream.queueFrame(late);
+
+        assertEquals(0, queued.refCnt());
+        assertEquals(0, late.refCnt());
+    }
+
+    @Test
+    public void fullQueueOfSnapshotStreamDropsOldestFrame() throws Exception {
+        StreamOutput stream = new StreamOutput(response);
+        List<ByteBuf> frames = new ArrayList<>();
+        for (int i = 0; i <= MAX_QUEUED_FRAMES; i++) {
+            ByteBuf frame = frame("jpeg" + i);
+            frames.add(frame);
+            stream.queueFrame(frame);
+        }
+
+        assertEquals(0, frames.get(0).refCnt());
+        for (int i = 1; i <= MAX_QUEUED_FRAMES; i++) {
+            assertEquals(1, frames.get(i).refCnt());
+        }
+        stream.sendFrame();
+        assertEquals(0, frames.get(1).refCnt());
+        assertTrue(sent.toString(StandardCharsets.US_ASCII).contains("jpeg1\r\n"));
+        stream.close();
+    }
+
+    @Test
+    public void fullQueueOfCameraStreamResumesAtNextBoundary() throws Exception {
+        StreamOutput stream = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        List<ByteBuf> frames = new ArrayList<>();
+        for (int i = 0; i < MAX_QUEUED_FRAMES; i++) {
+            ByteBuf frame = frame("--camera\r\njpeg" + i);
+            frames.add(frame);
+            stream.queueFrame(frame);
+        }
+        ByteBuf overflow = frame("end of jpeg\r\n--camera\r\nnext");
+        stream.queueFrame(overflow);
+
+        for (ByteBuf frame : frames) {
+            assertEquals(0, frame.refCnt());
+        }
+        // the slice starting at the boundary holds the only reference
+        assertEquals(1, overflow.refCnt());
+        stream.sendFrame();
+        assertEquals(0, overflow.refCnt());
+        assertEquals("--camera\r\nnext", sent.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void dataWithoutBoundaryIsDropped() throws IOException {
+        StreamOutput stream = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+
+        ByteBuf noBoundary = frame("jpeg--data\r\n-");
+        assertNull(stream.sliceFromBoundary(noBoundary));
+        assertEquals(0, noBoundary.refCnt());
+
+        ByteBuf startsWithBoundary = frame("--camera\r\njpeg");
+        assertSame(startsWithBoundary, stream.sliceFromBoundary(startsWithBoundary));
+        assertEquals(1, startsWithBoundary.refCnt());
+        startsWithBoundary.release();
+    }
+
+    @Test
+    public void sliceDoesNotMoveReaderIndexOfSharedFrame() throws IOException {
+        StreamOutput stream = new StreamOutput(response, "multipart/x-mixed-replace; boundary=camera");
+        ByteBuf frame = frame("jpeg\r\n--camera\r\nnext");
+        frame.retain();
+
+        ByteBuf slice = stream.sliceFromBoundary(frame);
+
+        assertNotNull(slice);
+        assertEquals("--camera\r\nnext", slice.toString(StandardCharsets.US_ASCII));
+        assertEquals(0, frame.readerIndex());
+        assertEquals(2, frame.refCnt());
+        slice.release();
+        assertEquals(1, frame.refCnt());
+        frame.release();
+    }
+
+    private static ByteBuf frame(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.US_ASCII);
+    }
+}
@@ -15,11 +15,9 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +25,7 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.dpt.TranslatorCache;
 import org.openhab.binding.knx.internal.dpt.ValueEncoder;
 import org.openhab.binding.knx.internal.handler.GroupAddressListener;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
@@ -43,6 +42,7 @@ import tuwien.auto.calimero.DetachEvent;
 import tuwien.auto.calimero.FrameEvent;
 import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXAckTimeoutException;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.KNXIllegalArgumentException;
 import tuwien.auto.calimero.datapoint.CommandDP;
@@ -82,6 +82,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int MIN_READING_PAUSE_BACKOFF = 100;
+    private static final int MAX_READING_PAUSE = 5000;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -103,12 +105,15 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressListenerIndex groupAddressListeners = new GroupAddressListenerIndex();
+    private final ReadScheduler readDatapoints = new ReadScheduler();
+    private final TranslatorCache translators = new TranslatorCache();
+    private volatile int currentReadingPause;
+    private int readJobId;
 
     @FunctionalInterface
     private interface ListenerNotification {
-        void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
+        void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, TelegramData data);
     }
 
     @NonNullByDefault({})
@@ -121,20 +126,20 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
-            processEvent("Group Write", e, (listener, source, destination, asdu) -> listener
-                    .onGroupWrite(AbstractKNXClient.this, source, destination, asdu));
+            processEvent("Group Write", e, (listener, source, destination, data) -> listener
+                    .onGroupWrite(AbstractKNXClient.this, source, destination, data));
         }
 
         @Override
         public void groupReadRequest(ProcessEvent e) {
-            processEvent("Group Read Request", e, (listener, source, destination, asdu) -> listener
-                    .onGroupRead(AbstractKNXClient.this, source, destination, asdu));
+            processEvent("Group Read Request", e, (listener, source, destination, data) -> listener
+                    .onGroupRead(AbstractKNXClient.this, source, destination, data));
         }
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
-            processEvent("Group Read Response", e, (listener, source, destination, asdu) -> listener
-                    .onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu));
+            processEvent("Group Read Response", e, (listener, source, destination, data) -> listener
+                    .onGroupReadResponse(AbstractKNXClient.this, source, destination, data));
         }
     };
 
@@ -145,6 +150,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
+        this.currentReadingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
@@ -244,8 +250,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             link.addLinkListener(this);
 
             // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            currentReadingPause = readingPause;
+            int jobId = ++readJobId;
+            busJob = knxScheduler.schedule(() -> readQueuedDatapoints(jobId), 0, TimeUnit.MILLISECONDS);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -326,17 +333,25 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         GroupAddress destination = event.getDestination();
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
+        commandExtensionData.receivedTelegrams().increment();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
-        // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
-        // The idea is to store GA, message type, and size as key. The value counts the number of packets.
-        if (!isHandled) {
+        List<GroupAddressListener> listeners = groupAddressListeners.getListeners(destination);
+        if (!listeners.isEmpty()) {
+            // one task per telegram, the listeners share the decoded value
+            TelegramData data = new TelegramData(asdu, translators);
+            knxScheduler.execute(() -> {
+                for (GroupAddressListener listener : listeners) {
+                    try {
+                        action.apply(listener, source, destination, data);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process {} telegram to '{}': {}", task, destination, e.getMessage(),
+                                e);
+                    }
+                }
+            });
+        } else {
+            // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
+            // The idea is to store GA, message type, and size as key. The value counts the number of packets.
             logger.trace("Address '{}' is not configured in openHAB", destination);
             final String type = switch (event.getServiceCode()) {
                 case 0x80 -> " GROUP_WRITE(";
@@ -349,6 +364,38 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    private void readQueuedDatapoints(int jobId) {
+        try {
+            readNextQueuedDatapoint();
+        } finally {
+            synchronized (this) {
+                // the job is cancelled and set to null when the connection is released, a new connection starts a new
+                // job
+                if (busJob != null && jobId == readJobId) {
+                    busJob = knxScheduler.schedule(() -> readQueuedDatapoints(jobId), currentReadingPause,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adapt the pause between two read requests to the load of the bus: back off if the interface did not
+     * acknowledge a request, and return to the configured pause step by step when requests succeed again.
+     * The configured pause is never undercut.
+     */
+    private void adaptReadingPause(boolean busy) {
+        int pause = currentReadingPause;
+        if (busy) {
+            pause = Math.min(Math.max(MAX_READING_PAUSE, readingPause),
+                    Math.max(pause * 2, MIN_READING_PAUSE_BACKOFF));
+            logger.debug("Bridge {} seems to be busy, increasing reading pause to {} ms", thingUID, pause);
+        } else if (pause > readingPause) {
+            pause = Math.max(readingPause, pause * 3 / 4);
+        }
+        currentReadingPause = pause;
+    }
+
     // datapoint is null at end of the list, warning is misleading
     @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
@@ -365,7 +412,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                adaptReadingPause(false);
             } catch (KNXException e) {
+                if (e instanceof KNXAckTimeoutException) {
+                    adaptReadingPause(true);
+                }
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
@@ -456,23 +507,20 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        if (!readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority))) {
+            logger.trace("Read request for {} is already queued", datapoint.getMainAddress());
         }
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressListeners.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressListeners.unregister(listener);
     }
 
     @Override
@@ -31,9 +31,9 @@ public interface BusMessageListener {
      * @param client
      * @param source
      * @param destination
-     * @param asdu
+     * @param data the data of the telegram, shared with the other listeners of the destination
      */
-    void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, TelegramData data);
 
     /**
      * Called when the KNX bridge receives a group read telegram
@@ -41,9 +41,9 @@ public interface BusMessageListener {
      * @param client
      * @param source
      * @param destination
-     * @param asdu
+     * @param data the data of the telegram, shared with the other listeners of the destination
      */
-    void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, TelegramData data);
 
     /**
      * Called when the KNX bridge receives a group read response telegram
@@ -51,7 +51,8 @@ public interface BusMessageListener {
      * @param client
      * @param source
      * @param destination
-     * @param asdu
+     * @param data the data of the telegram, shared with the other listeners of the destination
      */
-    void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+            TelegramData data);
 }
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Index of the {@link GroupAddressListener}s by the group addresses they listen to.
+ *
+ * Lookups are lock-free and return immutable lists, registrations replace the lists of the affected group addresses.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressListenerIndex {
+    private final Map<GroupAddress, List<GroupAddressListener>> listenersByAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> addressesByListener = new HashMap<>();
+
+    /**
+     * Register a listener for its current group addresses. A listener which is already registered is updated, so
+     * that it is only found for the given addresses afterwards.
+     *
+     * @param listener the listener
+     */
+    synchronized void register(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = Set.copyOf(listener.getGroupAddresses());
+        Set<GroupAddress> oldAddresses = addressesByListener.put(listener, addresses);
+        if (oldAddresses != null) {
+            for (GroupAddress address : oldAddresses) {
+                if (!addresses.contains(address)) {
+                    removeListener(address, listener);
+                }
+            }
+        }
+        for (GroupAddress address : addresses) {
+            if (oldAddresses == null || !oldAddresses.contains(address)) {
+                List<GroupAddressListener> listeners = new ArrayList<>(
+                        listenersByAddress.getOrDefault(address, List.of()));
+                listeners.add(listener);
+                listenersByAddress.put(address, List.copyOf(listeners));
+            }
+        }
+    }
+
+    /**
+     * Remove a listener from all group addresses it was registered for.
+     *
+     * @param listener the listener
+     */
+    synchronized void unregister(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = addressesByListener.remove(listener);
+        if (addresses != null) {
+            for (GroupAddress address : addresses) {
+                removeListener(address, listener);
+            }
+        }
+    }
+
+    private void removeListener(GroupAddress address, GroupAddressListener listener) {
+        List<GroupAddressListener> listeners = new ArrayList<>(listenersByAddress.getOrDefault(address, List.of()));
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            listenersByAddress.remove(address);
+        } else {
+            listenersByAddress.put(address, List.copyOf(listeners));
+        }
+    }
+
+    /**
+     * Get the listeners of a group address.
+     *
+     * @param address the group address
+     * @return an immutable list of the listeners, empty if nobody listens to the address
+     */
+    List<GroupAddressListener> getListeners(GroupAddress address) {
+        return listenersByAddress.getOrDefault(address, List.of());
+    }
+}
@@ -62,6 +62,7 @@ public interface KNXClient {
 
     /**
      * Register the given listener to be informed on KNX bus traffic.
+     * Registering a listener again updates the group addresses it is informed about.
      *
      * @param listener the listener
      */
@@ -75,11 +76,13 @@ public interface KNXClient {
     void unregisterGroupAddressListener(GroupAddressListener listener);
 
     /**
-     * Schedule the given data point for asynchronous reading.
+     * Schedule the given data point for asynchronous reading. A data point which is already scheduled is read only
+     * once, with the higher of both priorities.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
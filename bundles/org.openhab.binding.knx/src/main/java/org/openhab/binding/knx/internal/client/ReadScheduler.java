@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of the datapoints which are waiting to be read from the KNX bus.
+ *
+ * There is one queue per {@link ReadPriority}, the datapoints of a lower priority are only read if all queues of a
+ * higher priority are empty. Reads of the same group address are coalesced: a group address is queued at most once,
+ * with the highest priority it was requested with. Queued group addresses are indexed by a hash map, entries left
+ * behind in a lower priority queue after an upgrade are skipped when they are polled.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadScheduler {
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+    private final Map<ReadPriority, ArrayDeque<ReadDatapoint>> queues = new EnumMap<>(ReadPriority.class);
+
+    ReadScheduler() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Add a datapoint to the queue of its priority.
+     *
+     * @param datapoint the datapoint to read
+     * @return true if the datapoint was queued, false if its group address is already queued with the same or a higher
+     *         priority
+     */
+    synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint existing = queued.get(address);
+        if (existing == null) {
+            queued.put(address, datapoint);
+            getQueue(datapoint.getPriority()).add(datapoint);
+            return true;
+        }
+        if (datapoint.getPriority().compareTo(existing.getPriority()) < 0) {
+            existing.setPriority(datapoint.getPriority());
+            getQueue(datapoint.getPriority()).add(existing);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove the next datapoint to read.
+     *
+     * @return the datapoint with the highest priority which was queued first, or null if the queue is empty
+     */
+    synchronized @Nullable ReadDatapoint poll() {
+        for (Map.Entry<ReadPriority, ArrayDeque<ReadDatapoint>> entry : queues.entrySet()) {
+            ArrayDeque<ReadDatapoint> queue = entry.getValue();
+            ReadDatapoint datapoint;
+            while ((datapoint = queue.poll()) != null) {
+                // skip entries which have been moved to a queue of a higher priority
+                if (datapoint.getPriority() == entry.getKey()
+                        && queued.remove(datapoint.getDatapoint().getMainAddress(), datapoint)) {
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    synchronized int size() {
+        return queued.size();
+    }
+
+    synchronized void clear() {
+        queued.clear();
+        queues.values().forEach(ArrayDeque::clear);
+    }
+
+    private ArrayDeque<ReadDatapoint> getQueue(ReadPriority priority) {
+        ArrayDeque<ReadDatapoint> queue = queues.get(priority);
+        if (queue == null) {
+            throw new IllegalStateException("No queue for priority " + priority);
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.dpt.TranslatorCache;
+import org.openhab.binding.knx.internal.dpt.ValueDecoder;
+import org.openhab.core.types.Type;
+
+/**
+ * The data of a received telegram, which is handed to all listeners of its group address.
+ *
+ * The value is decoded once per DPT and preferred type and shared between the listeners.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TelegramData {
+    private final byte[] asdu;
+    private final TranslatorCache translators;
+    private final Map<String, Optional<Type>> decodedValues = new HashMap<>(4);
+
+    public TelegramData(byte[] asdu, TranslatorCache translators) {
+        this.asdu = asdu;
+        this.translators = translators;
+    }
+
+    public byte[] getAsdu() {
+        return asdu;
+    }
+
+    /**
+     * Decode the data, see {@link ValueDecoder#decode(String, byte[], Class, TranslatorCache)}.
+     *
+     * @param dptId the DPT of the data
+     * @param preferredType the preferred type of the value
+     * @return the value, or null if the data cannot be decoded
+     */
+    public synchronized @Nullable Type decode(String dptId, Class<? extends Type> preferredType) {
+        String key = dptId + "/" + preferredType.getName();
+        Optional<Type> value = decodedValues.get(key);
+        if (value == null) {
+            value = Optional.ofNullable(ValueDecoder.decode(dptId, asdu, preferredType, translators));
+            decodedValues.put(key, value);
+        }
+        return value.orElse(null);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * Bounded cache of idle Calimero translators, at most one per DPT.
+ *
+ * Translators are not thread-safe, so a translator is removed from the cache while it is used and put back
+ * afterwards. Concurrent decoding of the same DPT creates an additional translator, which is dropped again if the
+ * cache already holds one. The least recently used translators are dropped when the capacity is exceeded.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TranslatorCache {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Map<String, DPTXlator> idleTranslators;
+
+    public TranslatorCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TranslatorCache(int capacity) {
+        idleTranslators = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DPTXlator> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Take the translator for a DPT out of the cache, or create a new one if there is no idle translator.
+     *
+     * @param dptId the DPT
+     * @return a translator for exclusive use until it is released
+     * @throws KNXException if Calimero has no translator for the DPT
+     */
+    public DPTXlator acquire(String dptId) throws KNXException {
+        DPTXlator translator;
+        synchronized (idleTranslators) {
+            translator = idleTranslators.remove(dptId);
+        }
+        return translator != null ? translator : TranslatorTypes.createTranslator(0, dptId);
+    }
+
+    /**
+     * Put a translator which was returned by {@link #acquire(String)} back into the cache.
+     *
+     * @param dptId the DPT the translator was acquired for
+     * @param translator the translator, must not be used afterwards
+     */
+    public void release(String dptId, DPTXlator translator) {
+        synchronized (idleTranslators) {
+            idleTranslators.putIfAbsent(dptId, translator);
+        }
+    }
+
+    int size() {
+        synchronized (idleTranslators) {
+            return idleTranslators.size();
+        }
+    }
+
+    @Nullable DPTXlator peek(String dptId) {
+        synchronized (idleTranslators) {
+            return idleTranslators.get(dptId);
+        }
+    }
+}
@@ -20,10 +20,15 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
@@ -40,6 +45,7 @@ import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.types.Type;
 import org.openhab.core.types.UnDefType;
 import org.openhab.core.util.ColorUtil;
+import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +54,8 @@ import tuwien.auto.calimero.KNXFormatException;
 import tuwien.auto.calimero.KNXIllegalArgumentException;
 import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
-import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
 import tuwien.auto.calimero.dptxlator.DPTXlator3BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlator64BitSigned;
-import tuwien.auto.calimero.dptxlator.DPTXlator8BitUnsigned;
 import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
@@ -71,8 +75,6 @@ public class ValueDecoder {
     private static final String TIME_DAY_FORMAT = "EEE, HH:mm:ss";
     private static final String TIME_FORMAT = "HH:mm:ss";
     private static final String DATE_FORMAT = "yyyy-MM-dd";
-    // RGB: "r:123 g:123 b:123" value-range: 0-255
-    private static final Pattern RGB_PATTERN = Pattern.compile("r:(?<r>\\d+) g:(?<g>\\d+) b:(?<b>\\d+)");
     // RGBW: "100 27 25 12 %", value range: 0-100, invalid values: "-"
     private static final Pattern RGBW_PATTERN = Pattern
             .compile("(?:(?<r>[\\d,.]+)|-)\\s(?:(?<g>[\\d,.]+)|-)\\s(?:(?<b>[\\d,.]+)|-)\\s(?:(?<w>[\\d,.]+)|-)\\s%");
@@ -82,6 +84,12 @@ public class ValueDecoder {
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9](?<sep>[,\\.])[0-9][0-9][0-9].*");
 
+    private static final Map<String, Optional<DptId>> DPT_IDS = new ConcurrentHashMap<>();
+    private static final Map<String, Unit<?>> UNITS = new ConcurrentHashMap<>();
+
+    private record DptId(String main, String sub) {
+    }
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -113,14 +121,27 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        return decode(dptId, data, preferredType, null);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value, reusing the translators of a cache
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @param translators the cache to take the translator from, or null to create a new translator
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType,
+            @Nullable TranslatorCache translators) {
+        String translatorKey = DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId);
+        DPTXlator translator = null;
         try {
-            String value = "";
             String translatorDptId = dptId;
-            DPTXlator translator;
             try {
-                translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+                translator = acquireTranslator(translators, translatorKey);
                 translator.setData(data);
-                value = translator.getValue();
                 translatorDptId = translator.getType().getID();
             } catch (KNXException e) {
                 // special handling for decoding DPTs not yet supported by Calimero
@@ -128,18 +149,18 @@ public class ValueDecoder {
                     if (!check235001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "13.010");
+                    translatorKey = "13.010";
+                    translator = acquireTranslator(translators, translatorKey);
                     translator.setData(data);
-                    value = translator.getValue();
                     dptId = "13.010";
                     translatorDptId = dptId;
                 } else if ("235.61001".equals(dptId)) {
                     if (!check23561001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "5.006");
+                    translatorKey = "5.006";
+                    translator = acquireTranslator(translators, translatorKey);
                     translator.setData(new byte[] { data[4] });
-                    value = translator.getValue();
                     dptId = "5.006";
                     translatorDptId = dptId;
                 } else {
@@ -149,21 +170,21 @@ public class ValueDecoder {
             }
             String id = dptId; // prefer using the user-supplied DPT
 
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
+            DptId parsedId = parseDptId(id);
+            if (parsedId == null) {
                 LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
                         id);
                 id = translatorDptId;
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
+                parsedId = parseDptId(id);
+                if (parsedId == null) {
                     LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
                     return null;
                 }
             }
             LOGGER.trace("Finally using datapoint DPT = {}", id);
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+            String mainType = parsedId.main();
+            String subType = parsedId.sub();
 
             switch (mainType) {
                 case "1":
@@ -177,19 +198,19 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "6":
                     if ("020".equals(subType)) {
-                        return handleStringOrDecimal(data, value, preferredType, 8);
+                        return handleStringOrDecimal(data, translator, preferredType, 8);
                     } else {
                         return handleNumericDpt(id, translator, preferredType);
                     }
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
                     return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
+                            .format(new SimpleDateFormat(DATE_FORMAT).parse(translator.getValue())));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -197,18 +218,19 @@ public class ValueDecoder {
                     return handleDpt19(translator, data);
                 case "20":
                 case "21":
-                    return handleStringOrDecimal(data, value, preferredType, 8);
+                    return handleStringOrDecimal(data, translator, preferredType, 8);
                 case "22":
-                    return handleStringOrDecimal(data, value, preferredType, 16);
+                    return handleStringOrDecimal(data, translator, preferredType, 16);
                 case "16":
                 case "28":
                 case "250": // Map all combined color transitions to String,
                 case "252": // as no native support is planned.
                 case "253": // Currently only one subtype 2xx.600
                 case "254": // is defined for those DPTs.
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "243": // color translation, fix regional
                 case "249": // settings
+                    String value = translator.getValue();
                     // workaround for different number formats, this is to fix time>=1000s:
                     // time is last block and may contain . and ,
                     int sep = java.lang.Math.max(value.indexOf(" % "), value.indexOf(" K "));
@@ -220,11 +242,11 @@ public class ValueDecoder {
                     }
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(data, subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(data);
                 case "251":
-                    return handleDpt251(value, subType, preferredType);
+                    return handleDpt251(translator.getValue(), subType, preferredType);
                 default:
                     return handleNumericDpt(id, translator, preferredType);
             }
@@ -232,11 +254,30 @@ public class ValueDecoder {
             LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
         } catch (KNXException e) {
             LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
+        } finally {
+            if (translators != null && translator != null) {
+                translators.release(translatorKey, translator);
+            }
         }
 
         return null;
     }
 
+    private static DPTXlator acquireTranslator(@Nullable TranslatorCache translators, String dptId)
+            throws KNXException {
+        return translators != null ? translators.acquire(dptId) : TranslatorTypes.createTranslator(0, dptId);
+    }
+
+    private static @Nullable DptId parseDptId(String dptId) {
+        return DPT_IDS.computeIfAbsent(dptId, id -> {
+            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
+            if (!m.matches() || m.groupCount() != 2) {
+                return Optional.empty();
+            }
+            return Optional.of(new DptId(m.group("main"), m.group("sub")));
+        }).orElse(null);
+    }
+
     private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
         DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
         switch (subType) {
@@ -359,75 +400,57 @@ public class ValueDecoder {
         }
     }
 
-    private static @Nullable Type handleStringOrDecimal(byte[] data, String value, Class<? extends Type> preferredType,
-            int bits) {
+    private static @Nullable Type handleStringOrDecimal(byte[] data, DPTXlator stringTranslator,
+            Class<? extends Type> preferredType, int bits) {
         if (DecimalType.class.equals(preferredType)) {
-            try {
-                // need a new translator for 8 bit unsigned, as Calimero handles only the string type
-                if (bits == 8) {
-                    DPTXlator8BitUnsigned translator = new DPTXlator8BitUnsigned("5.010");
-                    translator.setData(data);
-                    return new DecimalType(translator.getValueUnsigned());
-                } else if (bits == 16) {
-                    DPTXlator2ByteUnsigned translator = new DPTXlator2ByteUnsigned("7.001");
-                    translator.setData(data);
-                    return new DecimalType(translator.getValueUnsigned());
-                } else {
-                    return null;
-                }
-            } catch (KNXFormatException e) {
+            // Calimero handles only the string type, the translator has checked the length of the data
+            if (bits == 8) {
+                return new DecimalType(data[0] & 0xff);
+            } else if (bits == 16) {
+                return new DecimalType(((data[0] & 0xff) << 8) | (data[1] & 0xff));
+            } else {
                 return null;
             }
         } else {
-            return StringType.valueOf(value);
+            return StringType.valueOf(stringTranslator.getValue());
         }
     }
 
-    private static @Nullable Type handleDpt232(String value, String subType) {
-        Matcher rgb = RGB_PATTERN.matcher(value);
-        if (rgb.matches()) {
-            int r = Integer.parseInt(rgb.group("r"));
-            int g = Integer.parseInt(rgb.group("g"));
-            int b = Integer.parseInt(rgb.group("b"));
+    private static @Nullable Type handleDpt232(byte[] data, String subType) {
+        // the translator has checked the length of the data, r, g and b are the first three bytes
+        int r = data[0] & 0xff;
+        int g = data[1] & 0xff;
+        int b = data[2] & 0xff;
 
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
         }
-        LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
-        return null;
     }
 
-    private static @Nullable Type handleDpt242(String value) {
-        Matcher xyY = XYY_PATTERN.matcher(value);
-        if (xyY.matches()) {
-            String stringx = xyY.group("x");
-            String stringy = xyY.group("y");
-            String stringY = xyY.group("Y");
-
-            if (stringx != null && stringy != null) {
-                double x = Double.parseDouble(stringx.replace(",", "."));
-                double y = Double.parseDouble(stringy.replace(",", "."));
-                if (stringY == null) {
-                    return ColorUtil.xyToHsb(new double[] { x, y });
-                } else {
-                    double pY = Double.parseDouble(stringY.replace(",", "."));
-                    return ColorUtil.xyToHsb(new double[] { x, y, pY / 100.0 });
-                }
-            }
+    private static @Nullable Type handleDpt242(byte[] data) {
+        // the translator has checked the length of the data: x (2 bytes), y (2 bytes), brightness, validity flags
+        boolean colorValid = (data[5] & 0x02) != 0;
+        boolean brightnessValid = (data[5] & 0x01) != 0;
+        if (!colorValid) {
+            LOGGER.warn("Failed to convert '{}' (DPT 242): color is not valid", HexUtils.bytesToHex(data));
+            return null;
         }
-        LOGGER.warn("Failed to convert '{}' (DPT 242): Pattern does not match", value);
-        return null;
+        double x = (((data[0] & 0xff) << 8) | (data[1] & 0xff)) / 65535.0;
+        double y = (((data[2] & 0xff) << 8) | (data[3] & 0xff)) / 65535.0;
+        if (!brightnessValid) {
+            return ColorUtil.xyToHsb(new double[] { x, y });
+        }
+        return ColorUtil.xyToHsb(new double[] { x, y, (data[4] & 0xff) / 255.0 });
     }
 
     private static @Nullable Type handleDpt251(String value, String subType, Class<? extends Type> preferredType) {
@@ -491,9 +514,9 @@ public class ValueDecoder {
             if (unit != null) {
                 if (translator instanceof DPTXlator64BitSigned translatorSigned) {
                     // prevent loss of precision, do not represent 64bit decimal using double
-                    return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
+                    return new QuantityType<>(BigDecimal.valueOf(translatorSigned.getValueSigned()), getUnit(unit));
                 }
-                return new QuantityType<>(value + " " + unit);
+                return new QuantityType<>(BigDecimal.valueOf(value), getUnit(unit));
             } else {
                 LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", id);
             }
@@ -511,6 +534,11 @@ public class ValueDecoder {
         return null;
     }
 
+    private static Unit<?> getUnit(String unit) {
+        // parse the unit the same way as a quantity string, but only once
+        return UNITS.computeIfAbsent(unit, u -> new QuantityType<>("1 " + u).getUnit());
+    }
+
     private static double coerceToRange(double value, double min, double max) {
         return Math.min(Math.max(value, min), max);
     }
@@ -30,6 +30,7 @@ import org.openhab.binding.knx.internal.i18n.KNXTranslationProvider;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.i18n.LocaleProvider;
 import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.transport.serial.SerialPortManager;
 import org.openhab.core.net.NetworkAddressService;
 import org.openhab.core.thing.Bridge;
@@ -39,10 +40,13 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.openhab.io.metrics.api.ThingMessageCounters;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 
 /**
  * The {@link KNXHandlerFactory} is responsible for creating things and thing
@@ -61,6 +65,8 @@ public class KNXHandlerFactory extends BaseThingHandlerFactory {
     private final NetworkAddressService networkAddressService;
     private final SerialPortManager serialPortManager;
     private final Map<ThingUID, KNXBridgeBaseThingHandler> bridges = new ConcurrentHashMap<>();
+    private final ThingMessageCounters receivedTelegrams = new ThingMessageCounters(BINDING_ID,
+            "Telegrams received from the KNX bus");
 
     @Activate
     public KNXHandlerFactory(final @Reference NetworkAddressService networkAddressService, Map<String, Object> config,
@@ -78,6 +84,21 @@ public class KNXHandlerFactory extends BaseThingHandlerFactory {
         disableUoM = (boolean) config.getOrDefault(CONFIG_DISABLE_UOM, false);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        receivedTelegrams.setMeterRegistryProvider(meterRegistryProvider);
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        receivedTelegrams.unsetMeterRegistryProvider(meterRegistryProvider);
+    }
+
+    private void addBridge(KNXBridgeBaseThingHandler bridgeHandler) {
+        ThingUID bridgeUID = bridgeHandler.getThing().getUID();
+        bridges.put(bridgeUID, bridgeHandler);
+        receivedTelegrams.register(bridgeUID, bridgeHandler.getCommandExtensionData().receivedTelegrams()::sum);
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -105,11 +126,11 @@ public class KNXHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(THING_TYPE_IP_BRIDGE)) {
             KNXBridgeBaseThingHandler bridgeHandler = new IPBridgeThingHandler((Bridge) thing, networkAddressService);
-            bridges.put(thing.getUID(), bridgeHandler);
+            addBridge(bridgeHandler);
             return bridgeHandler;
         } else if (thingTypeUID.equals(THING_TYPE_SERIAL_BRIDGE)) {
             KNXBridgeBaseThingHandler bridgeHandler = new SerialBridgeThingHandler((Bridge) thing, serialPortManager);
-            bridges.put(thing.getUID(), bridgeHandler);
+            addBridge(bridgeHandler);
             return bridgeHandler;
         } else if (thingTypeUID.equals(THING_TYPE_DEVICE)) {
             return new DeviceThingHandler(thing);
@@ -120,6 +141,7 @@ public class KNXHandlerFactory extends BaseThingHandlerFactory {
     @Override
     public void unregisterHandler(Thing thing) {
         bridges.remove(thing.getUID());
+        receivedTelegrams.unregister(thing.getUID());
         super.unregisterHandler(thing);
     }
 
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,9 +67,12 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
 
     /**
      * Helper class to carry information which can be used by the
-     * command line extension (openHAB console).
+     * command line extension (openHAB console) and the metrics of the bridge.
      */
-    public record CommandExtensionData(Map<String, Long> unknownGA) {
+    public record CommandExtensionData(Map<String, Long> unknownGA, LongAdder receivedTelegrams) {
+        public CommandExtensionData(Map<String, Long> unknownGA) {
+            this(unknownGA, new LongAdder());
+        }
     }
 
     private final ScheduledExecutorService knxScheduler = ThreadPoolManager.getScheduledPool("knx");
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class GroupAddressListenerIndexTest {
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+
+    private GroupAddressListener createListener(GroupAddress... addresses) {
+        GroupAddressListener listener = Objects.requireNonNull(mock(GroupAddressListener.class));
+        when(listener.getGroupAddresses()).thenReturn(Set.of(addresses));
+        return listener;
+    }
+
+    @Test
+    public void testListenersAreFoundByGroupAddress() {
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        GroupAddressListener listener1 = createListener(GA_1, GA_2);
+        GroupAddressListener listener2 = createListener(GA_2);
+        index.register(listener1);
+        index.register(listener2);
+
+        assertEquals(List.of(listener1), index.getListeners(GA_1));
+        assertEquals(List.of(listener1, listener2), index.getListeners(GA_2));
+        assertTrue(index.getListeners(GA_3).isEmpty());
+    }
+
+    @Test
+    public void testRegisterAgainUpdatesGroupAddresses() {
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        GroupAddressListener listener = createListener(GA_1, GA_2);
+        index.register(listener);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(GA_2, GA_3));
+        index.register(listener);
+
+        assertTrue(index.getListeners(GA_1).isEmpty());
+        assertEquals(List.of(listener), index.getListeners(GA_2));
+        assertEquals(List.of(listener), index.getListeners(GA_3));
+    }
+
+    @Test
+    public void testUnregisterRemovesAllGroupAddresses() {
+        GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+        GroupAddressListener listener1 = createListener(GA_1, GA_2);
+        GroupAddressListener listener2 = createListener(GA_2);
+        index.register(listener1);
+        index.register(listener2);
+        // the listener might have dropped its addresses already, e.g. on dispose
+        when(listener1.getGroupAddresses()).thenReturn(Set.of());
+        index.unregister(listener1);
+
+        assertTrue(index.getListeners(GA_1).isEmpty());
+        assertEquals(List.of(listener2), index.getListeners(GA_2));
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+
+    private ReadDatapoint createDatapoint(int subGroup, ReadPriority priority) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(1, 2, subGroup), "test", 0, "1.001"), 3, priority);
+    }
+
+    private int pollSubGroup(ReadScheduler scheduler) {
+        ReadDatapoint datapoint = scheduler.poll();
+        assertNotNull(datapoint);
+        return datapoint.getDatapoint().getMainAddress().getRawAddress() & 0xff;
+    }
+
+    @Test
+    public void testHigherPriorityIsReadFirst() {
+        ReadScheduler scheduler = new ReadScheduler();
+        scheduler.add(createDatapoint(1, ReadPriority.PERIODIC));
+        scheduler.add(createDatapoint(2, ReadPriority.INITIAL));
+        scheduler.add(createDatapoint(3, ReadPriority.USER));
+        scheduler.add(createDatapoint(4, ReadPriority.INITIAL));
+
+        assertEquals(3, pollSubGroup(scheduler));
+        assertEquals(2, pollSubGroup(scheduler));
+        assertEquals(4, pollSubGroup(scheduler));
+        assertEquals(1, pollSubGroup(scheduler));
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testReadsOfSameGroupAddressAreCoalesced() {
+        ReadScheduler scheduler = new ReadScheduler();
+        assertTrue(scheduler.add(createDatapoint(1, ReadPriority.INITIAL)));
+        assertFalse(scheduler.add(createDatapoint(1, ReadPriority.INITIAL)));
+        assertFalse(scheduler.add(createDatapoint(1, ReadPriority.PERIODIC)));
+        assertEquals(1, scheduler.size());
+
+        assertEquals(1, pollSubGroup(scheduler));
+        assertNull(scheduler.poll());
+        assertTrue(scheduler.add(createDatapoint(1, ReadPriority.PERIODIC)));
+    }
+
+    @Test
+    public void testQueuedReadIsUpgraded() {
+        ReadScheduler scheduler = new ReadScheduler();
+        scheduler.add(createDatapoint(1, ReadPriority.PERIODIC));
+        scheduler.add(createDatapoint(2, ReadPriority.PERIODIC));
+        assertTrue(scheduler.add(createDatapoint(2, ReadPriority.USER)));
+        assertEquals(2, scheduler.size());
+
+        assertEquals(2, pollSubGroup(scheduler));
+        assertEquals(1, pollSubGroup(scheduler));
+        assertNull(scheduler.poll());
+    }
+}
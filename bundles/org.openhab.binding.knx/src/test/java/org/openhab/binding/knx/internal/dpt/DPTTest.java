@@ -35,6 +35,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.util.ColorUtil;
 
+import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
 import tuwien.auto.calimero.dptxlator.DPTXlator4ByteFloat;
 import tuwien.auto.calimero.dptxlator.DPTXlator4ByteSigned;
@@ -352,6 +353,40 @@ class DPTTest {
         assertEquals(encoded, "r:" + data[0] + " g:" + data[1] + " b:" + data[2]);
     }
 
+    @Test
+    public void dpt242ValidityFlags() {
+        byte[] colorOnly = new byte[] { 0x40, 0x00, 0x50, 0x00, (byte) 0x80, 2 };
+        double x = 0x4000 / 65535.0;
+        double y = 0x5000 / 65535.0;
+        assertEquals(ColorUtil.xyToHsb(new double[] { x, y }),
+                ValueDecoder.decode("242.600", colorOnly, HSBType.class));
+
+        byte[] noColor = new byte[] { 0x40, 0x00, 0x50, 0x00, (byte) 0x80, 1 };
+        assertNull(ValueDecoder.decode("242.600", noColor, HSBType.class));
+    }
+
+    @Test
+    public void decodeWithReusedTranslator() {
+        TranslatorCache translators = new TranslatorCache();
+
+        assertEquals("21.5 °C", Objects.toString(
+                ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x33 }, QuantityType.class, translators)));
+        DPTXlator translator = translators.peek("9.001");
+        assertNotNull(translator);
+
+        assertEquals("0.0 °C",
+                Objects.toString(ValueDecoder.decode("9.001", new byte[] { 0, 0 }, QuantityType.class, translators)));
+        assertEquals(new QuantityType<>("21.5 °C"),
+                ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x33 }, QuantityType.class, translators));
+        assertSame(translator, translators.peek("9.001"));
+        assertEquals(1, translators.size());
+
+        // the translator used for a DPT which Calimero does not support is put back as well
+        assertEquals(new DecimalType(18),
+                ValueDecoder.decode("235.61001", new byte[] { 0, 0, 0, 0, 0x12, 1 }, DecimalType.class, translators));
+        assertEquals(2, translators.size());
+    }
+
     @Test
     public void dpt235Decoder() {
         byte[] noActiveEnergy = new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+
+/**
+ * Tests for {@link TranslatorCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TranslatorCacheTest {
+
+    @Test
+    public void releasedTranslatorIsReused() throws KNXException {
+        TranslatorCache translators = new TranslatorCache();
+
+        DPTXlator translator = translators.acquire("9.001");
+        translators.release("9.001", translator);
+
+        assertSame(translator, translators.acquire("9.001"));
+        assertEquals(0, translators.size());
+    }
+
+    @Test
+    public void translatorInUseIsNotShared() throws KNXException {
+        TranslatorCache translators = new TranslatorCache();
+
+        DPTXlator first = translators.acquire("9.001");
+        DPTXlator second = translators.acquire("9.001");
+        assertNotSame(first, second);
+
+        translators.release("9.001", first);
+        translators.release("9.001", second);
+        assertEquals(1, translators.size());
+        assertSame(first, translators.peek("9.001"));
+    }
+
+    @Test
+    public void leastRecentlyUsedTranslatorIsDropped() throws KNXException {
+        TranslatorCache translators = new TranslatorCache(2);
+
+        translators.release("9.001", translators.acquire("9.001"));
+        translators.release("5.001", translators.acquire("5.001"));
+        translators.peek("9.001");
+        translators.release("1.001", translators.acquire("1.001"));
+
+        assertEquals(2, translators.size());
+        assertNotNull(translators.peek("9.001"));
+        assertNull(translators.peek("5.001"));
+        assertNotNull(translators.peek("1.001"));
+    }
+
+    @Test
+    public void unknownDptIsRejected() {
+        assertThrows(KNXException.class, () -> new TranslatorCache().acquire("999.999"));
+    }
+}
@@ -12,86 +12,188 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
-import java.util.concurrent.ExecutorService;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * {@link FileChannel} based log file reader implementation.
+ * <p>
+ * New content is read into a reusable direct buffer and split into lines in place. The lines are decoded as UTF-8
+ * and all lines of a read cycle are passed to the listeners at once.
+ * Rotation is detected by a changed file key (inode) or by a file which got smaller than the read position.
  *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
 
-    private @Nullable Tailer tailer;
-    private @Nullable ExecutorService executor;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private byte[] lineBytes = new byte[1024];
 
-    TailerListener logListener = new TailerListenerAdapter() {
+    private @Nullable ScheduledExecutorService executor;
 
-        @Override
-        public void handle(@Nullable String line) {
-            if (line == null) {
-                return;
-            }
+    // read state, only accessed by the executor thread
+    private long position = -1;
+    private @Nullable Object fileKey;
+    private boolean fileMissing;
 
-            sendLineToListeners(line);
+    @Override
+    public void start(String filePath, long refreshRate) throws FileReaderException {
+        ScheduledExecutorService localExecutor = Executors
+                .newSingleThreadScheduledExecutor(new NamedThreadFactory("binding-logreader", true));
+        try {
+            Path path = Paths.get(filePath);
+            // -1 makes the first read cycle start at the end of the file
+            position = -1;
+            fileKey = null;
+            fileMissing = false;
+            logger.debug("Start executor");
+            localExecutor.scheduleWithFixedDelay(() -> poll(path), 0, refreshRate, TimeUnit.MILLISECONDS);
+            logger.debug("Executor started");
+            this.executor = localExecutor;
+        } catch (Exception e) {
+            localExecutor.shutdown();
+            throw new FileReaderException(e);
         }
+    }
 
-        @Override
-        public void fileNotFound() {
-            sendFileNotFoundToListeners();
+    @Override
+    public void stop() {
+        logger.debug("Shutdown");
+        ScheduledExecutorService localExecutor = executor;
+        if (localExecutor != null) {
+            localExecutor.shutdown();
+            executor = null;
         }
+        logger.debug("Shutdown complete");
+    }
 
-        @Override
-        public void handle(@Nullable Exception e) {
-            if (e == null) {
+    /**
+     * Runs one read cycle, called by the executor (package-private for tests).
+     *
+     * @param path the path of the log file
+     */
+    void poll(Path path) {
+        try {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                if (!fileMissing) {
+                    fileMissing = true;
+                    sendFileNotFoundToListeners();
+                }
                 return;
             }
+            fileMissing = false;
 
+            long size = attributes.size();
+            Object key = attributes.fileKey();
+            if (position < 0) {
+                position = size;
+                fileKey = key;
+                return;
+            }
+            if ((key != null && !key.equals(fileKey)) || size < position) {
+                logger.debug("Rotation of '{}' detected", path);
+                position = 0;
+                fileKey = key;
+                sendFileRotationToListeners();
+            }
+            if (size > position) {
+                read(path);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the exception must not escape, that would cancel the scheduled read cycles
             sendExceptionToListeners(e);
         }
+    }
 
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
-        }
-    };
+    private void read(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        boolean consumed = false;
 
-    @Override
-    public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-        executor = Executors.newSingleThreadExecutor();
-        try {
-            logger.debug("Start executor");
-            executor.execute(localTailer);
-            logger.debug("Executor started");
-            this.tailer = localTailer;
-        } catch (Exception e) {
-            throw new FileReaderException(e);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(position);
+            buffer.clear();
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                int lineStart = 0;
+                int limit = buffer.limit();
+                for (int i = 0; i < limit; i++) {
+                    if (buffer.get(i) == '\n') {
+                        addLine(lines, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart == 0 && limit == buffer.capacity()) {
+                    // the line does not fit into the buffer, pass it on in pieces which end before the last,
+                    // possibly incomplete UTF-8 sequence
+                    int end = limit;
+                    while (end > limit - 3 && (buffer.get(end - 1) & 0xC0) == 0x80) {
+                        end--;
+                    }
+                    if ((buffer.get(end - 1) & 0xC0) == 0xC0) {
+                        end--;
+                    }
+                    addLine(lines, 0, end);
+                    lineStart = end;
+                }
+                if (lineStart > 0) {
+                    position += lineStart;
+                    consumed = true;
+                }
+                // keep an incomplete last line, it is read again when it has been completed
+                buffer.position(lineStart);
+                buffer.compact();
+
+                if (lines.size() >= MAX_BATCH_SIZE) {
+                    sendLinesToListeners(lines);
+                    lines = new ArrayList<>();
+                    consumed = false;
+                }
+            }
+        }
+        if (consumed) {
+            // also sent if only empty lines were read, listeners use it as a sign of life of the file
+            sendLinesToListeners(lines);
         }
     }
 
-    @Override
-    public void stop() {
-        logger.debug("Shutdown");
-        if (tailer != null) {
-            tailer.stop();
+    private void addLine(List<String> lines, int start, int end) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
         }
-        if (executor != null) {
-            executor.shutdown();
+        int length = end - start;
+        if (lineBytes.length < length) {
+            lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
         }
-        logger.debug("Shutdown complite");
+        buffer.get(start, lineBytes, 0, length);
+        lines.add(new String(lineBytes, 0, length, StandardCharsets.UTF_8));
     }
 }
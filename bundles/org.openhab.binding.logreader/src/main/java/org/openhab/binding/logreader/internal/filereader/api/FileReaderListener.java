@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.logreader.internal.filereader.api;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -41,6 +43,18 @@ public interface FileReaderListener {
      */
     void handle(@Nullable String line);
 
+    /**
+     * This method is called with all new lines which were read in one read cycle. By default, every line is passed to
+     * {@link #handle(String)}.
+     *
+     * @param lines the lines, may be empty if all lines were skipped by the line filter.
+     */
+    default void handle(List<String> lines) {
+        for (String line : lines) {
+            handle(line);
+        }
+    }
+
     /**
      * This method is called when exception has occurred.
      *
@@ -15,6 +15,7 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -164,6 +165,16 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         logger.debug("Stop file reader");
         fileReader.unregisterListener(this);
         fileReader.stop();
+        logPatternMatchCounts("error", errorEngine);
+        logPatternMatchCounts("warning", warningEngine);
+        logPatternMatchCounts("custom", customEngine);
+    }
+
+    private void logPatternMatchCounts(String type, @Nullable SearchEngine engine) {
+        if (engine != null && logger.isDebugEnabled()) {
+            logger.debug("Matches of {} patterns: {}, blacklisted: {}", type, engine.getPatternMatchCounts(),
+                    engine.getBlacklistingPatternMatchCounts());
+        }
     }
 
     @Override
@@ -184,24 +195,45 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             return;
         }
 
+        handle(List.of(line));
+    }
+
+    @Override
+    public void handle(List<String> lines) {
         if (thing.getStatus() != ThingStatus.ONLINE) {
             updateStatus(ThingStatus.ONLINE);
         }
 
-        if (errorEngine != null && errorEngine.isMatching(line)) {
+        String lastError = null;
+        String lastWarning = null;
+        String lastCustom = null;
+        for (String line : lines) {
+            if (errorEngine != null && errorEngine.isMatching(line)) {
+                lastError = line;
+                triggerChannel(CHANNEL_NEWERROR, line);
+            }
+            if (warningEngine != null && warningEngine.isMatching(line)) {
+                lastWarning = line;
+                triggerChannel(CHANNEL_NEWWARNING, line);
+            }
+            if (customEngine != null && customEngine.isMatching(line)) {
+                lastCustom = line;
+                triggerChannel(CHANNEL_NEWCUSTOM, line);
+            }
+        }
+
+        // the states are only updated once per batch, the trigger channels got every single line
+        if (errorEngine != null && lastError != null) {
             updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
-            triggerChannel(CHANNEL_NEWERROR, line);
+            updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(lastError));
         }
-        if (warningEngine != null && warningEngine.isMatching(line)) {
+        if (warningEngine != null && lastWarning != null) {
             updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(warningEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(line));
-            triggerChannel(CHANNEL_NEWWARNING, line);
+            updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(lastWarning));
         }
-        if (customEngine != null && customEngine.isMatching(line)) {
+        if (customEngine != null && lastCustom != null) {
             updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(customEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(line));
-            triggerChannel(CHANNEL_NEWCUSTOM, line);
+            updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(lastCustom));
         }
     }
 
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A list of regular expressions which are matched against a line in configuration order, together with the number
+ * of lines each of them was the first matching pattern for.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PatternSet {
+    private final List<Pattern> patterns;
+    private final long[] matchCounts;
+
+    PatternSet(List<Pattern> patterns) {
+        this.patterns = patterns;
+        this.matchCounts = new long[patterns.size()];
+    }
+
+    /**
+     * Find the first pattern (in configuration order) which is contained in the data.
+     *
+     * @return the index of the pattern or <code>-1</code> if no pattern matches
+     */
+    int find(String data) {
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matcher(data).find()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    void countMatch(int index) {
+        matchCounts[index]++;
+    }
+
+    void clearMatchCounts() {
+        for (int i = 0; i < matchCounts.length; i++) {
+            matchCounts[i] = 0;
+        }
+    }
+
+    Map<String, Long> getMatchCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            counts.merge(patterns.get(i).pattern(), matchCounts[i], Long::sum);
+        }
+        return counts;
+    }
+}
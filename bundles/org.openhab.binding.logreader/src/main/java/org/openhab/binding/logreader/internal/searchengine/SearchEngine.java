@@ -14,7 +14,7 @@ package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -29,8 +29,8 @@ import org.eclipse.jdt.annotation.Nullable;
 @NonNullByDefault
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private PatternSet matchers;
+    private PatternSet blacklistingMatchers;
 
     private long matchCount;
 
@@ -42,8 +42,8 @@ public class SearchEngine {
      *
      */
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
-        matchers = compilePatterns(patterns);
-        blacklistingMatchers = compilePatterns(blacklistingPatterns);
+        matchers = new PatternSet(compilePatterns(patterns));
+        blacklistingMatchers = new PatternSet(compilePatterns(blacklistingPatterns));
     }
 
     /**
@@ -53,8 +53,10 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
+        int match = matchers.find(data);
+        if (match >= 0) {
             if (notBlacklisted(data)) {
+                matchers.countMatch(match);
                 matchCount++;
                 return true;
             }
@@ -72,6 +74,26 @@ public class SearchEngine {
 
     public void clearMatchCount() {
         setMatchCount(0);
+        matchers.clearMatchCounts();
+        blacklistingMatchers.clearMatchCounts();
+    }
+
+    /**
+     * Get the number of matches of each search pattern.
+     *
+     * @return the patterns and the number of lines they were the first matching pattern for
+     */
+    public Map<String, Long> getPatternMatchCounts() {
+        return matchers.getMatchCounts();
+    }
+
+    /**
+     * Get the number of matches of each blacklisting pattern.
+     *
+     * @return the patterns and the number of lines they have suppressed
+     */
+    public Map<String, Long> getBlacklistingPatternMatchCounts() {
+        return blacklistingMatchers.getMatchCounts();
     }
 
     /**
@@ -94,18 +116,11 @@ public class SearchEngine {
     }
 
     private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
-    }
-
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
-                    return true;
-                }
-            }
+        int match = blacklistingMatchers.find(data);
+        if (match >= 0) {
+            blacklistingMatchers.countMatch(match);
+            return false;
         }
-        return false;
+        return true;
     }
 }
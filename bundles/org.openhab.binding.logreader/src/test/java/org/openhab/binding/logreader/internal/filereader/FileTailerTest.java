@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests the read cycles of the {@link FileTailer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerTest {
+
+    private @TempDir @NonNullByDefault({}) Path folder;
+    private @NonNullByDefault({}) Path logFile;
+
+    private final FileTailer tailer = new FileTailer();
+    private final RecordingListener listener = new RecordingListener();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        logFile = folder.resolve("openhab.log");
+        Files.writeString(logFile, "existing line\n");
+        tailer.registerListener(listener);
+        // the first read cycle starts at the end of the file
+        tailer.poll(logFile);
+    }
+
+    @Test
+    public void appendedLinesAreDeliveredInOneBatch() throws IOException {
+        append("first\nsecond\n");
+        tailer.poll(logFile);
+
+        assertEquals(List.of(List.of("first", "second")), listener.batches);
+        assertEquals(0, listener.rotations);
+    }
+
+    @Test
+    public void partialLineIsCarriedOverToNextReadCycle() throws IOException {
+        append("complete\nincompl");
+        tailer.poll(logFile);
+        append("ete\n");
+        tailer.poll(logFile);
+
+        assertEquals(List.of(List.of("complete"), List.of("incomplete")), listener.batches);
+    }
+
+    @Test
+    public void lineWithoutLineFeedIsNotDelivered() throws IOException {
+        append("no line feed yet");
+        tailer.poll(logFile);
+
+        assertEquals(List.of(), listener.batches);
+    }
+
+    @Test
+    public void carriageReturnIsRemovedFromLineEnd() throws IOException {
+        append("windows\r\nline\r\n\r\n");
+        tailer.poll(logFile);
+
+        assertEquals(List.of(List.of("windows", "line", "")), listener.batches);
+    }
+
+    @Test
+    public void linesAreDecodedAsUtf8() throws IOException {
+        append("Temperatur 21 \u00b0C\nGr\u00fc\u00dfe \u2713\n");
+        tailer.poll(logFile);
+
+        assertEquals(List.of(List.of("Temperatur 21 \u00b0C", "Gr\u00fc\u00dfe \u2713")), listener.batches);
+    }
+
+    @Test
+    public void lineLongerThanBufferIsSplitBetweenCharacters() throws IOException {
+        // an umlaut is encoded with two bytes, the 64 KiB read buffer therefore ends in the middle of a character
+        String longLine = "a" + "\u00e4".repeat(40000);
+        append(longLine + "\nnext\n");
+        tailer.poll(logFile);
+
+        List<String> lines = listener.batches.stream().flatMap(List::stream).toList();
+        assertEquals("next", lines.get(lines.size() - 1));
+        assertEquals(longLine, String.join("", lines.subList(0, lines.size() - 1)));
+    }
+
+    @Test
+    public void truncatedFileIsReadFromStart() throws IOException {
+        append("before truncation\n");
+        tailer.poll(logFile);
+        Files.writeString(logFile, "new\n", StandardOpenOption.TRUNCATE_EXISTING);
+        tailer.poll(logFile);
+
+        assertEquals(1, listener.rotations);
+        assertEquals(List.of(List.of("before truncation"), List.of("new")), listener.batches);
+    }
+
+    @Test
+    public void replacedFileIsReadFromStart() throws IOException {
+        Path rotatedFile = folder.resolve("rotated.log");
+        Files.writeString(rotatedFile, "first line of a new file which is longer than the old one\n");
+        Files.move(rotatedFile, logFile, StandardCopyOption.REPLACE_EXISTING);
+        tailer.poll(logFile);
+
+        assertEquals(1, listener.rotations);
+        assertEquals(List.of(List.of("first line of a new file which is longer than the old one")),
+                listener.batches);
+    }
+
+    @Test
+    public void missingFileIsReportedOnce() throws IOException {
+        Files.delete(logFile);
+        tailer.poll(logFile);
+        tailer.poll(logFile);
+
+        assertEquals(1, listener.filesNotFound);
+    }
+
+    private void append(String content) throws IOException {
+        Files.write(logFile, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    private static class RecordingListener implements FileReaderListener {
+        private final List<List<String>> batches = new ArrayList<>();
+        private int rotations;
+        private int filesNotFound;
+
+        @Override
+        public void fileNotFound() {
+            filesNotFound++;
+        }
+
+        @Override
+        public void fileRotated() {
+            rotations++;
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            fail("lines must be delivered in batches");
+        }
+
+        @Override
+        public void handle(List<String> lines) {
+            batches.add(List.copyOf(lines));
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            fail(ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the matching and the match counts of the {@link PatternSet}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PatternSetTest {
+
+    @Test
+    public void firstMatchingPatternIsFound() {
+        PatternSet patternSet = new PatternSet(List.of(Pattern.compile("ERROR"), Pattern.compile("WARN.*timeout"),
+                Pattern.compile("timeout")));
+
+        assertEquals(1, patternSet.find("2024-01-01 [WARN ] timeout"));
+        assertEquals(2, patternSet.find("2024-01-01 [INFO ] timeout"));
+        assertEquals(-1, patternSet.find("2024-01-01 [WARN ] started"));
+    }
+
+    @Test
+    public void matchesAreCountedPerPattern() {
+        PatternSet patternSet = new PatternSet(List.of(Pattern.compile("ERROR"), Pattern.compile("WARN")));
+
+        patternSet.countMatch(patternSet.find("ERROR failed"));
+        patternSet.countMatch(patternSet.find("ERROR failed again"));
+
+        assertEquals(Map.of("ERROR", 2L, "WARN", 0L), patternSet.getMatchCounts());
+        patternSet.clearMatchCounts();
+        assertEquals(Map.of("ERROR", 0L, "WARN", 0L), patternSet.getMatchCounts());
+    }
+}
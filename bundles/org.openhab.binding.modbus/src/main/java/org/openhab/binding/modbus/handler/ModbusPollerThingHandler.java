@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -98,6 +99,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         @Override
         public synchronized void handle(AsyncModbusReadResult result) {
+            receivedResponses.increment();
             // Casting to allow registers.orElse(null) below..
             Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
                     .getRegisters();
@@ -193,6 +195,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
     private volatile AtomicReference<@Nullable ModbusRegisterArray> lastPolledDataCache = new AtomicReference<>();
+    private final LongAdder receivedResponses = new LongAdder();
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
 
     private ReadCallbackDelegator callbackDelegator = new ReadCallbackDelegator();
@@ -463,4 +466,11 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public AtomicReference<@Nullable ModbusRegisterArray> getLastPolledDataCache() {
         return lastPolledDataCache;
     }
+
+    /**
+     * Returns the number of successful responses received for the polls of this thing.
+     */
+    public long getReceivedResponseCount() {
+        return receivedResponses.sum();
+    }
 }
@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -82,6 +83,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     protected @Nullable MqttBrokerConnection connection;
 
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
+    private final LongAdder receivedMessages = new LongAdder();
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
 
@@ -261,6 +263,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     @Override
     public void updateChannelState(ChannelUID channelUID, State value) {
+        receivedMessages.increment();
         if (messageReceived.compareAndSet(false, true)) {
             calculateAndUpdateThingStatus(true);
         }
@@ -269,6 +272,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     @Override
     public void triggerChannel(ChannelUID channelUID, String event) {
+        receivedMessages.increment();
         if (messageReceived.compareAndSet(false, true)) {
             calculateAndUpdateThingStatus(true);
         }
@@ -277,9 +281,17 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     @Override
     public void postChannelCommand(ChannelUID channelUID, Command command) {
+        receivedMessages.increment();
         postCommand(channelUID, command);
     }
 
+    /**
+     * Returns the number of MQTT messages which were received for the channels of this thing.
+     */
+    public long getReceivedMessageCount() {
+        return receivedMessages.sum();
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
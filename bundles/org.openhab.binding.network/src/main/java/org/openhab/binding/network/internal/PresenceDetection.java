@@ -353,7 +353,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         stopDetection();
 
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
+        // TCP connection attempts are multiplexed by the network utils and do not need a thread
+        int threadCount = detectionChecks - tcpPorts.size();
+        @Nullable
+        ExecutorService detectionExecutorService = threadCount > 0 ? getThreadsFor(threadCount) : null;
         this.detectionExecutorService = detectionExecutorService;
         ExecutorService waitForResultExecutorService = getThreadsFor(1);
         this.waitForResultExecutorService = waitForResultExecutorService;
@@ -361,15 +364,15 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            completableFutures.add(performServicePing(pdv, tcpPort).orTimeout(timeout.plusSeconds(3).toMillis(),
+                    TimeUnit.MILLISECONDS));
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
         // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+        if (detectionExecutorService == null) {
+            logger.trace("Only TCP presence detection checks for {}", hostname);
+        } else if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             addAsyncDetection(completableFutures, () -> {
                 Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
                 // arp-ping.exe tool capable of handling multiple interfaces by itself
@@ -385,7 +388,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         // ICMP ping
-        if (pingMethod != null) {
+        if (pingMethod != null && detectionExecutorService != null) {
             addAsyncDetection(completableFutures, () -> {
                 Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
@@ -416,7 +419,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
+            if (detectionExecutorService != null) {
+                detectionExecutorService.shutdownNow();
+            }
             this.detectionExecutorService = null;
             detectionChecks = 0;
 
@@ -471,20 +476,32 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    /**
+     * Tries to connect to the given TCP port without blocking the calling thread.
+     *
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param tcpPort the TCP port
+     * @return a future which completes when the connection attempt is finished
+     */
+    protected CompletableFuture<Void> performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
-                // This should not happen and might be a user configuration issue, we log a warning message therefore.
-                logger.warn("Could not create a socket connection", e);
-            }
-        });
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        return networkUtils.servicePingAsync(destinationAddress.getHostAddress(), tcpPort, timeout)
+                .handle((pingResult, e) -> {
+                    if (e != null) {
+                        // This should not happen and might be a user configuration issue, we log a warning message
+                        // therefore.
+                        logger.warn("Could not create a socket connection", e);
+                    } else if (pingResult.isSuccess()) {
+                        updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                    }
+                    return null;
+                });
     }
 
     /**
@@ -634,7 +651,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     }
 
     private void disableDHCPListen(InetAddress destinationAddress) {
-        DHCPListenService.unregister(destinationAddress.getHostAddress());
+        DHCPListenService.unregister(destinationAddress.getHostAddress(), this);
         dhcpState = "off";
     }
 }
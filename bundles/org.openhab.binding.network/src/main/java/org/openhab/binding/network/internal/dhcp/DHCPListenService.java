@@ -14,7 +14,9 @@ package org.openhab.binding.network.internal.dhcp;
 
 import java.net.SocketException;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,14 +29,15 @@ import org.slf4j.LoggerFactory;
  * receiver thread will be started. If the last IPRequestReceivedCallback is removed, the thread will be stopped
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
- * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * DHO_DHCP_REQUESTED_ADDRESS address field. Several IPRequestReceivedCallback objects can register for the same
+ * address, all of them are notified by a single received packet.
  *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
 public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
-    private static final Map<String, IPRequestReceivedCallback> REGISTERED_LISTENERS = new TreeMap<>();
+    private static final Map<String, Set<IPRequestReceivedCallback>> REGISTERED_LISTENERS = new TreeMap<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(DHCPListenService.class);
 
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
@@ -42,9 +45,12 @@ public class DHCPListenService {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer(ipAddress -> {
-                IPRequestReceivedCallback listener = REGISTERED_LISTENERS.get(ipAddress);
-                if (listener != null) {
-                    listener.dhcpRequestReceived(ipAddress);
+                Set<IPRequestReceivedCallback> listeners;
+                synchronized (REGISTERED_LISTENERS) {
+                    listeners = REGISTERED_LISTENERS.get(ipAddress);
+                }
+                if (listeners != null) {
+                    listeners.forEach(listener -> listener.dhcpRequestReceived(ipAddress));
                 } else {
                     LOGGER.trace("DHCP request for unknown address: {}", ipAddress);
                 }
@@ -53,7 +59,7 @@ public class DHCPListenService {
             instance.start();
         }
         synchronized (REGISTERED_LISTENERS) {
-            REGISTERED_LISTENERS.put(hostAddress, dhcpListener);
+            REGISTERED_LISTENERS.computeIfAbsent(hostAddress, a -> new CopyOnWriteArraySet<>()).add(dhcpListener);
         }
         return instance;
     }
@@ -61,6 +67,25 @@ public class DHCPListenService {
     public static void unregister(String hostAddress) {
         synchronized (REGISTERED_LISTENERS) {
             REGISTERED_LISTENERS.remove(hostAddress);
+        }
+        stopIfUnused();
+    }
+
+    public static void unregister(String hostAddress, IPRequestReceivedCallback dhcpListener) {
+        synchronized (REGISTERED_LISTENERS) {
+            Set<IPRequestReceivedCallback> listeners = REGISTERED_LISTENERS.get(hostAddress);
+            if (listeners != null) {
+                listeners.remove(dhcpListener);
+                if (listeners.isEmpty()) {
+                    REGISTERED_LISTENERS.remove(hostAddress);
+                }
+            }
+        }
+        stopIfUnused();
+    }
+
+    private static void stopIfUnused() {
+        synchronized (REGISTERED_LISTENERS) {
             if (!REGISTERED_LISTENERS.isEmpty()) {
                 return;
             }
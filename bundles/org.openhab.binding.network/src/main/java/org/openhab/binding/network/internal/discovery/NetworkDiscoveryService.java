@@ -15,24 +15,33 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.io.IOException;
+import java.net.InetAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
-import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -57,7 +66,10 @@ import org.slf4j.LoggerFactory;
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
-    static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final int MAXIMUM_IPS_PER_INTERFACE = 1023;
+    static final int DEFAULT_PROBES_PER_SECOND = 500;
+    static final int PING_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final String CONFIG_PROBES_PER_SECOND = "probesPerSecond";
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -67,14 +79,21 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
     private @Nullable ExecutorService executorService = null;
+    private volatile @Nullable Scan currentScan;
+    private volatile int probesPerSecond = DEFAULT_PROBES_PER_SECOND;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
-    private final NetworkUtils networkUtils = new NetworkUtils();
+    private final NetworkUtils networkUtils;
 
     public NetworkDiscoveryService() {
+        this(new NetworkUtils());
+    }
+
+    NetworkDiscoveryService(NetworkUtils networkUtils) {
         super(SUPPORTED_THING_TYPES_UIDS,
-                (int) Math.round(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
+                (int) Math.round(networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
                         * (durationToMillis(PING_TIMEOUT) / 1000.0)),
                 false);
+        this.networkUtils = networkUtils;
     }
 
     @Override
@@ -92,11 +111,18 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        Object probesPerSecondConfig = config != null ? config.get(CONFIG_PROBES_PER_SECOND) : null;
+        probesPerSecond = Math.max(1,
+                ConfigParser.valueAsOrElse(probesPerSecondConfig, Integer.class, DEFAULT_PROBES_PER_SECOND));
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
+        Scan scan = currentScan;
+        if (scan != null) {
+            scan.cancelled = true;
+        }
         if (executorService != null) {
             executorService.shutdown();
         }
@@ -121,16 +147,17 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the scan of each IP on each interface on the network. The probes are sent at the configured rate, TCP
+     * connection attempts are multiplexed by the {@link NetworkUtils} and results are reported as soon as they are
+     * available.
      */
     @Override
     protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
+        ExecutorService service = executorService;
         if (service == null) {
-            return;
+            // one thread runs the scan, the others the blocking pings
+            service = Executors.newFixedThreadPool(PING_THREADS + 1);
+            executorService = service;
         }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
@@ -138,49 +165,151 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
         scannedIPcount.set(0);
 
-        for (String ip : networkIPs) {
-            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
-            pd.setHostname(ip);
-            pd.setIOSDevice(true);
-            pd.setUseDhcpSniffing(false);
-            pd.setTimeout(PING_TIMEOUT);
-            // Ping devices
-            pd.setUseIcmpPing(true);
-            pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
-        }
+        Scan scan = new Scan(networkIPs.size(), service);
+        currentScan = scan;
+        service.execute(() -> scan.run(networkIPs));
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
+        Scan scan = currentScan;
+        if (scan != null) {
+            scan.cancelled = true;
+            currentScan = null;
+        }
         final ExecutorService service = executorService;
         if (service == null) {
             return;
         }
+        // pending pings are not needed anymore
+        service.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * A single run of the discovery. Every host is pinged first, its TCP ports are only probed if it did not answer the
+     * ping. Pings and port probes share the configured number of probes per second.
+     */
+    private class Scan {
+        private final int hostCount;
+        private final ExecutorService service;
+        private final ProbeBudget budget = new ProbeBudget(probesPerSecond);
+        // a blocking ping occupies a thread of the service, new hosts are only started when a thread is free
+        private final Semaphore pingPermits = new Semaphore(PING_THREADS);
+        private volatile boolean cancelled;
+        private @Nullable IpPingMethodEnum pingMethod;
+        private Set<String> arpInterfaceNames = Set.of();
 
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+        private Scan(int hostCount, ExecutorService service) {
+            this.hostCount = hostCount;
+            this.service = service;
+        }
+
+        private void run(Set<String> networkIPs) {
+            Thread.currentThread().setName("Network discovery");
+            pingMethod = configuration.allowSystemPings ? networkUtils.determinePingMethod()
+                    : IpPingMethodEnum.JAVA_PING;
+            if (configuration.arpPingUtilMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+                // arp-ping.exe tool capable of handling multiple interfaces by itself
+                arpInterfaceNames = Set.of("");
+            } else if (configuration.arpPingUtilMethod.canProceed) {
+                arpInterfaceNames = networkUtils.getInterfaceNames();
+            }
+            logger.debug("Scanning {} IPs with up to {} probes per second", hostCount, probesPerSecond);
+
+            try {
+                for (String ip : networkIPs) {
+                    pingPermits.acquire();
+                    if (cancelled) {
+                        return;
+                    }
+                    TimeUnit.NANOSECONDS.sleep(budget.reserve());
+                    scanHost(ip);
+                }
+            } catch (InterruptedException | RejectedExecutionException e) {
+                logger.debug("Network discovery was stopped");
+            }
+        }
+
+        private void scanHost(String ip) {
+            CompletableFuture<Boolean> ping;
+            try {
+                ping = CompletableFuture.supplyAsync(() -> ping(ip), service);
+            } catch (RejectedExecutionException e) {
+                pingPermits.release();
+                throw e;
+            }
+            ping.whenComplete((reachable, e) -> pingPermits.release());
+
+            // a host that answered the ping is already discovered as ping device
+            ping.thenCompose(reachable -> reachable ? CompletableFuture.completedFuture(null) : probePorts(ip))
+                    .whenComplete((result, e) -> {
+                        int count = scannedIPcount.incrementAndGet();
+                        if (count == hostCount && !cancelled) {
+                            logger.trace("Scan of {} IPs successful", count);
+                            stopScan();
+                        }
+                    });
+        }
+
+        private CompletableFuture<Void> probePorts(String ip) {
+            List<CompletableFuture<?>> probes = new ArrayList<>();
+            for (int port : tcpServicePorts) {
+                // the connection attempts do not block, so they are only delayed until their slot of the budget
+                Executor slot = CompletableFuture.delayedExecutor(budget.reserve(), TimeUnit.NANOSECONDS);
+                probes.add(CompletableFuture.supplyAsync(() -> cancelled, slot).thenCompose(
+                        skip -> skip ? CompletableFuture.completedFuture(new PingResult(false, Duration.ZERO))
+                                : networkUtils.servicePingAsync(ip, port, PING_TIMEOUT))
+                        .thenAccept(pingResult -> {
+                            if (pingResult.isSuccess() && !cancelled) {
+                                newServiceDevice(ip, port);
+                            }
+                        }));
+            }
+            return CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new));
+        }
+
+        private boolean ping(String ip) {
+            IpPingMethodEnum pingMethod = this.pingMethod;
+            try {
+                InetAddress address = InetAddress.getByName(ip);
+                PingResult pingResult = pingMethod == IpPingMethodEnum.JAVA_PING
+                        ? networkUtils.javaPing(PING_TIMEOUT, address)
+                        : networkUtils.nativePing(pingMethod, ip, PING_TIMEOUT);
+                if (pingResult != null && pingResult.isSuccess()) {
+                    return pingReachable(ip);
+                }
+
+                if (!arpInterfaceNames.isEmpty()) {
+                    // iOS devices only respond to ARP pings after being woken up
+                    networkUtils.wakeUpIOS(address);
+                    Thread.sleep(50);
+                }
+                for (String interfaceName : arpInterfaceNames) {
+                    if (cancelled) {
+                        return false;
+                    }
+                    pingResult = networkUtils.nativeArpPing(configuration.arpPingUtilMethod,
+                            configuration.arpPingToolPath, interfaceName, ip, PING_TIMEOUT);
+                    if (pingResult != null && pingResult.isSuccess()) {
+                        return pingReachable(ip);
+                    }
+                }
+            } catch (IOException e) {
+                logger.trace("Failed to ping {}", ip, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private boolean pingReachable(String ip) {
+            if (!cancelled) {
+                newPingDevice(ip);
+            }
+            return true;
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ProbeBudget} hands out evenly spaced time slots for the probes of a discovery scan, so that no more than
+ * the configured number of probes per second are sent. Unused slots are not saved up for later bursts.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ProbeBudget {
+    private final long probeIntervalNanos;
+    private final LongSupplier nanoTime;
+    private long nextProbeTime;
+
+    ProbeBudget(int probesPerSecond) {
+        this(probesPerSecond, System::nanoTime);
+    }
+
+    ProbeBudget(int probesPerSecond, LongSupplier nanoTime) {
+        this.probeIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, probesPerSecond);
+        this.nanoTime = nanoTime;
+        this.nextProbeTime = nanoTime.getAsLong();
+    }
+
+    /**
+     * Reserves the next free slot.
+     *
+     * @return the time in nanoseconds until the probe may be sent
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        long slot = Math.max(now, nextProbeTime);
+        nextProbeTime = slot + probeIntervalNanos;
+        return slot - now;
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.openhab.binding.network.internal.utils.NetworkUtils.millisToDuration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.net.exec.ExecUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link FpingBatcher} collects the ICMP pings of all things which are requested within a short time window and
+ * pings them with a single invocation of the <code>fping</code> utility instead of starting a <code>ping</code>
+ * process per host.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class FpingBatcher {
+    private static final String FPING = "fping";
+    private static final long BATCH_WINDOW_MS = 200;
+    private static final Pattern ALIVE_PATTERN = Pattern.compile("^(\\S+) is alive(?: \\((\\d+(?:\\.\\d+)?) ms\\))?");
+
+    private final Logger logger = LoggerFactory.getLogger(FpingBatcher.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("network-ping");
+
+    private @Nullable Boolean available;
+    private @Nullable Batch currentBatch;
+
+    private static class Batch {
+        private final Map<String, CompletableFuture<PingResult>> requests = new HashMap<>();
+        private Duration timeout = Duration.ZERO;
+    }
+
+    /**
+     * Return true if the fping utility is installed. The feature test is only done once.
+     */
+    synchronized boolean isAvailable() {
+        Boolean available = this.available;
+        if (available == null) {
+            String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(1), FPING, "-v");
+            available = result != null && result.contains("Version");
+            logger.debug("fping utility is {}available, ICMP pings are {}batched", available ? "" : "not ",
+                    available ? "" : "not ");
+            this.available = available;
+        }
+        return available;
+    }
+
+    /**
+     * Adds the host to the next batch.
+     *
+     * @param host the IPv4 or IPv6 address
+     * @param timeout the timeout for the ping
+     * @return a future with the {@link PingResult} of the host
+     */
+    synchronized CompletableFuture<PingResult> ping(String host, Duration timeout) {
+        Batch batch = currentBatch;
+        if (batch == null) {
+            Batch newBatch = new Batch();
+            scheduler.schedule(() -> execute(newBatch), BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+            currentBatch = batch = newBatch;
+        }
+        if (timeout.compareTo(batch.timeout) > 0) {
+            batch.timeout = timeout;
+        }
+        return batch.requests.computeIfAbsent(host, h -> new CompletableFuture<>());
+    }
+
+    private void execute(Batch batch) {
+        synchronized (this) {
+            if (currentBatch == batch) {
+                currentBatch = null;
+            }
+        }
+
+        long startTime = System.nanoTime();
+        List<String> command = new ArrayList<>(List.of(FPING, "-e", "-r", "0", "-t",
+                String.valueOf(Math.max(1, batch.timeout.toMillis()))));
+        command.addAll(batch.requests.keySet());
+        logger.trace("Pinging {} hosts with a single fping call", batch.requests.size());
+
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                completeAliveHosts(reader, batch.requests, startTime);
+            }
+            process.waitFor();
+        } catch (IOException e) {
+            logger.debug("Executing fping failed: {}", e.getMessage());
+            batch.requests.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        completeUnreachableHosts(batch.requests, startTime);
+    }
+
+    /**
+     * Completes the requests of all hosts which are reported as alive in the output of fping.
+     *
+     * @param reader the standard output of fping
+     * @param requests the requests by host
+     * @param startTime the {@link System#nanoTime()} when fping was started, for hosts without a reported latency
+     */
+    static void completeAliveHosts(BufferedReader reader, Map<String, CompletableFuture<PingResult>> requests,
+            long startTime) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Matcher matcher = ALIVE_PATTERN.matcher(line);
+            if (matcher.find()) {
+                CompletableFuture<PingResult> future = requests.get(matcher.group(1));
+                if (future != null) {
+                    String latency = matcher.group(2);
+                    Duration responseTime = latency != null ? millisToDuration(Double.parseDouble(latency))
+                            : Duration.ofNanos(System.nanoTime() - startTime);
+                    PingResult pingResult = new PingResult(true, responseTime);
+                    pingResult.setResponseTime(responseTime);
+                    future.complete(pingResult);
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes the requests of all hosts which were not reported as alive.
+     */
+    static void completeUnreachableHosts(Map<String, CompletableFuture<PingResult>> requests, long startTime) {
+        Duration executionTime = Duration.ofNanos(System.nanoTime() - startTime);
+        requests.values().forEach(future -> future.complete(new PingResult(false, executionTime)));
+    }
+}
@@ -15,18 +15,14 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.Instant;
@@ -36,6 +32,10 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -84,6 +84,16 @@ public class NetworkUtils {
         return Duration.ofNanos((long) (millis * NANOS_PER_MILLI));
     }
 
+    /**
+     * Time to wait for a batched ping in addition to the ping timeout.
+     */
+    private static final long FPING_GRACE_PERIOD_MS = 2000;
+
+    /**
+     * Shared by all things, so that their ICMP pings are batched.
+     */
+    private static final FpingBatcher FPING_BATCHER = new FpingBatcher();
+
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
     private LatencyParser latencyParser = new LatencyParser();
@@ -214,15 +224,31 @@ public class NetworkUtils {
      * @throws IOException if an error occurs during the connection
      */
     public PingResult servicePing(String host, int port, Duration timeout) throws IOException {
-        Instant execStartTime = Instant.now();
-        boolean success = false;
-        try (Socket socket = new Socket()) {
-            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
-            success = true;
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException e) {
-            logger.trace("Could not connect to {}:{}", host, port, e);
+        try {
+            return servicePingAsync(host, port, timeout).get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new PingResult(false, Duration.ZERO);
+        }
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port without blocking the calling thread. The connection
+     * attempts of all things are multiplexed on a single selector thread.
+     *
+     * @param host the IP or hostname
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the attempt aborts
+     * @return a future with the {@link PingResult} of connecting to the given port
+     */
+    public CompletableFuture<PingResult> servicePingAsync(String host, int port, Duration timeout) {
+        try {
+            return ServiceProbeSelector.getInstance().probe(new InetSocketAddress(host, port), timeout);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return new PingResult(success, Duration.between(execStartTime, Instant.now()));
     }
 
     /**
@@ -308,6 +334,15 @@ public class NetworkUtils {
         if (method == null) {
             return null;
         }
+        if ((method == IpPingMethodEnum.IPUTILS_LINUX_PING || method == IpPingMethodEnum.MAC_OS_PING)
+                && FPING_BATCHER.isAvailable()) {
+            try {
+                return FPING_BATCHER.ping(hostname, timeout).get(timeout.toMillis() + FPING_GRACE_PERIOD_MS,
+                        TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                logger.debug("Batched ping of {} failed, falling back to ping: {}", hostname, e.getMessage());
+            }
+        }
         // Yes, all supported operating systems have their own ping utility with a different command line
         switch (method) {
             case IPUTILS_LINUX_PING:
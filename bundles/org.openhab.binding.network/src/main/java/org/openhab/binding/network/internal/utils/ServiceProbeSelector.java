@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ServiceProbeSelector} performs TCP connection attempts of all things with non-blocking sockets on a
+ * single {@link Selector}, so that probing a port does not occupy a thread until the connection is established or
+ * times out.
+ * <p>
+ * The selector thread is started with the first probe and ends after it has been idle for a while. The futures of
+ * the probes are completed on a thread of the given executor, so that their callbacks do not delay the selector.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ServiceProbeSelector implements Runnable {
+    private static final long IDLE_TIMEOUT_MS = 60_000;
+
+    private static @Nullable ServiceProbeSelector instance;
+
+    private final Logger logger = LoggerFactory.getLogger(ServiceProbeSelector.class);
+    private final Selector selector;
+    private final Executor callbackExecutor;
+    private final Queue<Probe> pendingProbes = new ConcurrentLinkedQueue<>();
+    private final List<Probe> activeProbes = new ArrayList<>();
+    private boolean running;
+
+    private static class Probe {
+        private final InetSocketAddress address;
+        private final long startTime = System.nanoTime();
+        private final long deadline;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        private @Nullable SocketChannel channel;
+
+        private Probe(InetSocketAddress address, Duration timeout) {
+            this.address = address;
+            this.deadline = startTime + timeout.toNanos();
+        }
+
+        private PingResult close(boolean success) {
+            SocketChannel channel = this.channel;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // nothing we can do about it
+                }
+            }
+            return new PingResult(success, Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+
+    static synchronized ServiceProbeSelector getInstance() throws IOException {
+        ServiceProbeSelector instance = ServiceProbeSelector.instance;
+        if (instance == null) {
+            instance = new ServiceProbeSelector(Selector.open(), ThreadPoolManager.getPool("network"));
+            ServiceProbeSelector.instance = instance;
+        }
+        return instance;
+    }
+
+    ServiceProbeSelector(Selector selector, Executor callbackExecutor) {
+        this.selector = selector;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given address.
+     *
+     * @param address the address, connection attempts to an unresolved address fail immediately
+     * @param timeout the timeout before the attempt is aborted
+     * @return a future with the {@link PingResult} of the connection attempt
+     */
+    CompletableFuture<PingResult> probe(InetSocketAddress address, Duration timeout) {
+        Probe probe = new Probe(address, timeout);
+        synchronized (this) {
+            pendingProbes.add(probe);
+            if (!running) {
+                running = true;
+                Thread thread = new Thread(this, "OH-binding-network-probe");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+        selector.wakeup();
+        return probe.future;
+    }
+
+    @Override
+    public void run() {
+        long idleSince = System.nanoTime();
+        while (true) {
+            registerPendingProbes();
+            if (activeProbes.isEmpty()) {
+                if (System.nanoTime() - idleSince >= TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS)) {
+                    synchronized (this) {
+                        if (pendingProbes.isEmpty()) {
+                            running = false;
+                            return;
+                        }
+                    }
+                    continue;
+                }
+            }
+            try {
+                selector.select(getSelectTimeout());
+            } catch (IOException e) {
+                logger.debug("Selecting connected sockets failed: {}", e.getMessage());
+            }
+
+            Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+            while (selectedKeys.hasNext()) {
+                SelectionKey key = selectedKeys.next();
+                selectedKeys.remove();
+                Probe probe = (Probe) key.attachment();
+                boolean connected;
+                try {
+                    connected = ((SocketChannel) key.channel()).finishConnect();
+                } catch (IOException e) {
+                    logger.trace("Could not connect to {}", probe.address, e);
+                    connected = false;
+                }
+                // a channel is only selected when the connection was established or failed
+                activeProbes.remove(probe);
+                complete(probe, connected);
+            }
+
+            long now = System.nanoTime();
+            activeProbes.removeIf(probe -> {
+                if (now - probe.deadline >= 0) {
+                    logger.trace("Connection attempt to {} timed out", probe.address);
+                    complete(probe, false);
+                    return true;
+                }
+                return false;
+            });
+            if (!activeProbes.isEmpty()) {
+                idleSince = now;
+            }
+        }
+    }
+
+    private void registerPendingProbes() {
+        Probe probe;
+        while ((probe = pendingProbes.poll()) != null) {
+            if (probe.address.isUnresolved()) {
+                complete(probe, false);
+                continue;
+            }
+            try {
+                SocketChannel channel = SocketChannel.open();
+                probe.channel = channel;
+                channel.configureBlocking(false);
+                if (channel.connect(probe.address)) {
+                    complete(probe, true);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                    activeProbes.add(probe);
+                }
+            } catch (IOException e) {
+                logger.trace("Could not connect to {}", probe.address, e);
+                complete(probe, false);
+            }
+        }
+    }
+
+    private void complete(Probe probe, boolean success) {
+        PingResult result = probe.close(success);
+        try {
+            callbackExecutor.execute(() -> probe.future.complete(result));
+        } catch (RejectedExecutionException e) {
+            probe.future.complete(result);
+        }
+    }
+
+    private long getSelectTimeout() {
+        if (activeProbes.isEmpty()) {
+            return IDLE_TIMEOUT_MS;
+        }
+        long nextDeadline = Long.MAX_VALUE;
+        long now = System.nanoTime();
+        for (Probe probe : activeProbes) {
+            nextDeadline = Math.min(nextDeadline, probe.deadline - now);
+        }
+        // 0 would block forever
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline) + 1);
+    }
+}
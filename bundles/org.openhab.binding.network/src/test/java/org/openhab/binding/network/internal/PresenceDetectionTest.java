@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
@@ -89,14 +90,14 @@ public class PresenceDetectionTest {
         doNothing().when(subject).performArpPing(any(), any());
         doNothing().when(subject).performJavaPing(any());
         doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(any(), anyInt());
 
         doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
 
         subject.getValue(callback -> {
         });
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Checks: ARP + ICMP + 1*TCP, but only threads for ARP + ICMP
         assertThat(subject.detectionChecks, is(3));
         assertNotNull(subject.detectionExecutorService);
 
@@ -115,9 +116,11 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePingAsync(anyString(),
+                anyInt(), any());
 
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
+        // TCP connection attempts do not need a thread
+        doReturn(detectionExecutorService).when(subject).getThreadsFor(2);
         doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
 
         subject.performPresenceDetection();
@@ -126,7 +129,7 @@ public class PresenceDetectionTest {
 
         // Perform the different presence detection threads now
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        verify(detectionExecutorService, times(2)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
@@ -156,9 +159,11 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePingAsync(anyString(),
+                anyInt(), any());
 
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
+        // TCP connection attempts do not need a thread
+        doReturn(detectionExecutorService).when(subject).getThreadsFor(2);
         doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
 
         // We expect no valid value
@@ -172,7 +177,7 @@ public class PresenceDetectionTest {
 
         // Perform the different presence detection threads now
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        verify(detectionExecutorService, times(2)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
@@ -17,8 +17,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.net.InetAddress;
 import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +36,9 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
 
@@ -91,4 +99,50 @@ public class DiscoveryTest {
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(ip));
         assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_PORT), is(1010));
     }
+
+    @Test
+    public void portsAreOnlyProbedIfPingFails() throws Exception {
+        String pingableIp = "192.168.0.1";
+        String serviceIp = "192.168.0.2";
+        NetworkUtils networkUtils = mock(NetworkUtils.class);
+        when(networkUtils.getNetworkIPs(anyInt())).thenReturn(new LinkedHashSet<>(List.of(pingableIp, serviceIp)));
+        when(networkUtils.determinePingMethod()).thenReturn(IpPingMethodEnum.JAVA_PING);
+        when(networkUtils.javaPing(any(), any())).thenAnswer(invocation -> new PingResult(
+                pingableIp.equals(invocation.<InetAddress> getArgument(1).getHostAddress()), Duration.ofMillis(1)));
+        when(networkUtils.servicePingAsync(anyString(), anyInt(), any())).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(new PingResult(invocation.<Integer> getArgument(1) == 80, Duration.ofMillis(1))));
+
+        NetworkDiscoveryService d = new NetworkDiscoveryService(networkUtils);
+        d.addDiscoveryListener(listener);
+        d.startScan();
+
+        verify(listener, timeout(5000)).thingDiscovered(any(),
+                argThat(r -> r.getThingUID().equals(NetworkDiscoveryService.createPingUID(pingableIp))));
+        verify(listener, timeout(5000)).thingDiscovered(any(),
+                argThat(r -> r.getThingUID().equals(NetworkDiscoveryService.createServiceUID(serviceIp, 80))));
+        verify(networkUtils, timeout(5000).times(4)).servicePingAsync(eq(serviceIp), anyInt(), any());
+
+        // the ping answer arrived before any port of the host was probed
+        verify(networkUtils, never()).servicePingAsync(eq(pingableIp), anyInt(), any());
+        verify(listener, times(2)).thingDiscovered(any(), any());
+    }
+
+    @Test
+    public void probeBudgetSpacesProbesEvenly() {
+        AtomicLong now = new AtomicLong();
+        ProbeBudget budget = new ProbeBudget(10, now::get);
+
+        assertThat(budget.reserve(), is(0L));
+        assertThat(budget.reserve(), is(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(budget.reserve(), is(TimeUnit.MILLISECONDS.toNanos(200)));
+
+        // slots which passed unused are not saved up for a burst
+        now.set(TimeUnit.SECONDS.toNanos(5));
+        assertThat(budget.reserve(), is(0L));
+        assertThat(budget.reserve(), is(TimeUnit.MILLISECONDS.toNanos(100)));
+
+        // the first reserved slots are taken into account when time moves on a little
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(budget.reserve(), is(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the evaluation of the fping output by the {@link FpingBatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FpingBatcherTest {
+
+    private static final String OUTPUT = """
+            192.168.1.1 is alive (0.52 ms)
+            192.168.1.2 is unreachable
+            fe80::1 is alive (12 ms)
+            192.168.1.4 is alive
+            192.168.1.99 is alive (1.00 ms)
+            ICMP Host Unreachable from 192.168.1.5 for ICMP Echo sent to 192.168.1.2
+            """;
+
+    @Test
+    public void aliveHostsAreCompletedWithTheirLatency() throws IOException {
+        Map<String, CompletableFuture<PingResult>> requests = Map.of("192.168.1.1", new CompletableFuture<>(),
+                "192.168.1.2", new CompletableFuture<>(), "fe80::1", new CompletableFuture<>(), "192.168.1.4",
+                new CompletableFuture<>());
+
+        FpingBatcher.completeAliveHosts(new BufferedReader(new StringReader(OUTPUT)), requests, System.nanoTime());
+
+        PingResult first = requests.get("192.168.1.1").getNow(null);
+        assertNotNull(first);
+        assertTrue(first.isSuccess());
+        assertEquals(Duration.ofNanos(520_000), first.getResponseTime());
+
+        PingResult ipv6 = requests.get("fe80::1").getNow(null);
+        assertNotNull(ipv6);
+        assertTrue(ipv6.isSuccess());
+        assertEquals(Duration.ofMillis(12), ipv6.getResponseTime());
+
+        // without a reported latency, the time since the start of fping is used
+        PingResult withoutLatency = requests.get("192.168.1.4").getNow(null);
+        assertNotNull(withoutLatency);
+        assertTrue(withoutLatency.isSuccess());
+        assertNotNull(withoutLatency.getResponseTime());
+
+        // unreachable hosts are only completed after fping has finished
+        assertFalse(requests.get("192.168.1.2").isDone());
+    }
+
+    @Test
+    public void hostsNotReportedAsAliveAreUnreachable() throws IOException {
+        Map<String, CompletableFuture<PingResult>> requests = Map.of("192.168.1.1", new CompletableFuture<>(),
+                "192.168.1.2", new CompletableFuture<>(), "192.168.1.3", new CompletableFuture<>());
+
+        FpingBatcher.completeAliveHosts(new BufferedReader(new StringReader(OUTPUT)), requests, System.nanoTime());
+        FpingBatcher.completeUnreachableHosts(requests, System.nanoTime());
+
+        assertTrue(requests.get("192.168.1.1").join().isSuccess());
+        assertFalse(requests.get("192.168.1.2").join().isSuccess());
+        assertFalse(requests.get("192.168.1.3").join().isSuccess());
+        assertNull(requests.get("192.168.1.3").join().getResponseTime());
+    }
+}
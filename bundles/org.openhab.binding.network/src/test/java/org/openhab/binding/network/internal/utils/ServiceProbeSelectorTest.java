@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Selector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the non-blocking connection attempts of the {@link ServiceProbeSelector}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ServiceProbeSelectorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService callbackExecutor = Executors
+            .newSingleThreadExecutor(r -> new Thread(r, "probe-callback"));
+    private @NonNullByDefault({}) ServiceProbeSelector selector;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        selector = new ServiceProbeSelector(Selector.open(), callbackExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callbackExecutor.shutdownNow();
+    }
+
+    @Test
+    public void connectionToListeningPortSucceeds() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            AtomicReference<@Nullable String> callbackThread = new AtomicReference<>();
+
+            PingResult result = selector.probe(localAddress(server.getLocalPort()), TIMEOUT)
+                    .whenComplete((r, t) -> callbackThread.set(Thread.currentThread().getName()))
+                    .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            assertTrue(result.isSuccess());
+            // callbacks must not run on the selector thread
+            assertEquals("probe-callback", callbackThread.get());
+        }
+    }
+
+    @Test
+    public void connectionToClosedPortIsRefused() throws Exception {
+        int port;
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+
+        PingResult result = selector.probe(localAddress(port), TIMEOUT).get(TIMEOUT.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getExecutionTime().compareTo(TIMEOUT) < 0, "refused connections must fail early");
+    }
+
+    @Test
+    public void connectionAttemptTimesOut() throws Exception {
+        Duration timeout = Duration.ofMillis(300);
+        List<Socket> queuedSockets = new ArrayList<>();
+        // a server that never accepts drops further connection attempts once its backlog is full
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = localAddress(server.getLocalPort());
+            for (int i = 0; i < 5; i++) {
+                Socket socket = new Socket();
+                queuedSockets.add(socket);
+                try {
+                    socket.connect(address, 200);
+                } catch (IOException e) {
+                    break;
+                }
+            }
+
+            PingResult result = selector.probe(address, timeout).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            assertFalse(result.isSuccess());
+            assertTrue(result.getExecutionTime().compareTo(timeout) >= 0, "the attempt must end by the timeout");
+        } finally {
+            for (Socket socket : queuedSockets) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    public void unresolvedAddressFailsImmediately() throws Exception {
+        PingResult result = selector.probe(InetSocketAddress.createUnresolved("unknown.invalid", 80), TIMEOUT)
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        assertFalse(result.isSuccess());
+    }
+
+    private static InetSocketAddress localAddress(int port) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The {@link AbstractAddonMeters} keeps the meters of an add-on registered in the openHAB meter registry while a
+ * {@link MeterRegistryProvider} is available. Add-ons pass the provider from an optional, dynamic reference.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+abstract class AbstractAddonMeters {
+    private @Nullable MeterRegistryProvider meterRegistryProvider;
+    private @Nullable MeterRegistry meterRegistry;
+
+    /**
+     * Registers the meters in the registry of the given provider, they are removed from the registry of a previous
+     * provider.
+     */
+    public synchronized void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            removeMeters(meterRegistry);
+        }
+        meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.meterRegistry = meterRegistry;
+        registerMeters(meterRegistry);
+    }
+
+    /**
+     * Removes the meters from the registry, if the given provider is the one which was set last.
+     */
+    public synchronized void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (this.meterRegistryProvider == meterRegistryProvider && meterRegistry != null) {
+            removeMeters(meterRegistry);
+            this.meterRegistryProvider = null;
+            this.meterRegistry = null;
+        }
+    }
+
+    /**
+     * Returns the registry the meters are registered in, or <code>null</code> if there is no provider.
+     */
+    protected synchronized @Nullable MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    abstract void registerMeters(MeterRegistry meterRegistry);
+
+    abstract void removeMeters(MeterRegistry meterRegistry);
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * The {@link AddonMeterFilter} configures the meters which add-ons register in the openHAB meter registry.
+ *
+ * Add-ons publish their meters with a name starting with {@value #ADDON_METER_PREFIX} and an {@value #TAG_ADDON} tag
+ * holding the id of the add-on, e.g. <code>openhab.addon.persistence.store</code> with <code>addon=jdbc</code>. Timers
+ * and distribution summaries of add-ons are published as histograms, so their latencies can be aggregated over
+ * several instances and time ranges in the monitoring system.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AddonMeterFilter implements MeterFilter {
+    public static final String ADDON_METER_PREFIX = "openhab.addon.";
+    public static final String TAG_ADDON = "addon";
+
+    private static final double MIN_EXPECTED_NANOS = Duration.ofMillis(1).toNanos();
+    private static final double MAX_EXPECTED_NANOS = Duration.ofSeconds(30).toNanos();
+
+    @Override
+    public @Nullable DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!id.getName().startsWith(ADDON_METER_PREFIX)) {
+            return config;
+        }
+        if (id.getType() == Meter.Type.TIMER) {
+            return DistributionStatisticConfig.builder().percentilesHistogram(true)
+                    .minimumExpectedValue(MIN_EXPECTED_NANOS).maximumExpectedValue(MAX_EXPECTED_NANOS).build()
+                    .merge(config);
+        } else if (id.getType() == Meter.Type.DISTRIBUTION_SUMMARY) {
+            return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+        }
+        return config;
+    }
+}
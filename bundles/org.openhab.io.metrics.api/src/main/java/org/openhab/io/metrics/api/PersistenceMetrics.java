@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.openhab.io.metrics.api.AddonMeterFilter.TAG_ADDON;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link PersistenceMetrics} publishes the store and query latency of a persistence service and the number of
+ * values waiting to be written. Nothing is recorded while there is no meter registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetrics extends AbstractAddonMeters {
+    private static final String METRIC_STORE = "openhab.addon.persistence.store";
+    private static final String METRIC_QUERY = "openhab.addon.persistence.query";
+    private static final String METRIC_QUEUE = "openhab.addon.persistence.queue";
+
+    private final String serviceId;
+    private final Supplier<Number> queueDepth;
+    private volatile @Nullable Timer storeTimer;
+    private volatile @Nullable Timer queryTimer;
+    private @Nullable Gauge queueGauge;
+
+    /**
+     * @param serviceId the id of the persistence service, used as {@value AddonMeterFilter#TAG_ADDON} tag
+     * @param queueDepth the number of values waiting to be written
+     */
+    public PersistenceMetrics(String serviceId, Supplier<Number> queueDepth) {
+        this.serviceId = serviceId;
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Records a write which started at the given {@link System#nanoTime()}.
+     */
+    public void recordStore(long startNanos) {
+        Timer storeTimer = this.storeTimer;
+        if (storeTimer != null) {
+            storeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records a query which started at the given {@link System#nanoTime()}.
+     */
+    public void recordQuery(long startNanos) {
+        Timer queryTimer = this.queryTimer;
+        if (queryTimer != null) {
+            queryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Wraps a query result which is read lazily. The query is recorded when an iteration has read the result to its
+     * end, as the database is queried while the result is read.
+     */
+    public <T> Iterable<T> recordQuery(Iterable<T> result) {
+        return () -> {
+            long startNanos = System.nanoTime();
+            Iterator<T> iterator = result.iterator();
+            return new Iterator<T>() {
+                private boolean recorded;
+
+                @Override
+                public boolean hasNext() {
+                    boolean hasNext = iterator.hasNext();
+                    if (!hasNext && !recorded) {
+                        recorded = true;
+                        recordQuery(startNanos);
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public T next() {
+                    return iterator.next();
+                }
+            };
+        };
+    }
+
+    @Override
+    void registerMeters(MeterRegistry meterRegistry) {
+        storeTimer = Timer.builder(METRIC_STORE).tag(TAG_ADDON, serviceId)
+                .description("Time to write values to the database").register(meterRegistry);
+        queryTimer = Timer.builder(METRIC_QUERY).tag(TAG_ADDON, serviceId)
+                .description("Time to query values from the database").register(meterRegistry);
+        queueGauge = Gauge.builder(METRIC_QUEUE, queueDepth).tag(TAG_ADDON, serviceId)
+                .description("Values waiting to be written to the database").register(meterRegistry);
+    }
+
+    @Override
+    void removeMeters(MeterRegistry meterRegistry) {
+        Timer storeTimer = this.storeTimer;
+        if (storeTimer != null) {
+            meterRegistry.remove(storeTimer);
+        }
+        Timer queryTimer = this.queryTimer;
+        if (queryTimer != null) {
+            meterRegistry.remove(queryTimer);
+        }
+        Gauge queueGauge = this.queueGauge;
+        if (queueGauge != null) {
+            meterRegistry.remove(queueGauge);
+        }
+        this.storeTimer = null;
+        this.queryTimer = null;
+        this.queueGauge = null;
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.openhab.io.metrics.api.AddonMeterFilter.TAG_ADDON;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ThingUID;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The {@link ThingMessageCounters} publishes the number of messages a binding received for each of its things. The
+ * handlers count the messages themselves and are registered by the handler factory when they are created.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ThingMessageCounters extends AbstractAddonMeters {
+    private static final String METRIC_MESSAGES_RECEIVED = "openhab.addon.messages.received";
+    private static final String TAG_THING = "thing";
+
+    private final String addonId;
+    private final String description;
+    private final Map<ThingUID, LongSupplier> counts = new HashMap<>();
+    private final Map<ThingUID, Meter> meters = new HashMap<>();
+
+    /**
+     * @param addonId the id of the binding, used as {@value AddonMeterFilter#TAG_ADDON} tag
+     * @param description the description of the counters
+     */
+    public ThingMessageCounters(String addonId, String description) {
+        this.addonId = addonId;
+        this.description = description;
+    }
+
+    /**
+     * Publishes the received messages of a thing. A count which was registered before for the same thing is replaced,
+     * as a handler which is created again for a thing starts counting from zero.
+     */
+    public synchronized void register(ThingUID thingUID, LongSupplier count) {
+        unregister(thingUID);
+        counts.put(thingUID, count);
+        MeterRegistry meterRegistry = getMeterRegistry();
+        if (meterRegistry != null) {
+            registerMeter(meterRegistry, thingUID, count);
+        }
+    }
+
+    /**
+     * Removes the received messages of a thing whose handler was disposed.
+     */
+    public synchronized void unregister(ThingUID thingUID) {
+        counts.remove(thingUID);
+        Meter meter = meters.remove(thingUID);
+        MeterRegistry meterRegistry = getMeterRegistry();
+        if (meter != null && meterRegistry != null) {
+            meterRegistry.remove(meter);
+        }
+    }
+
+    @Override
+    void registerMeters(MeterRegistry meterRegistry) {
+        counts.forEach((thingUID, count) -> registerMeter(meterRegistry, thingUID, count));
+    }
+
+    @Override
+    void removeMeters(MeterRegistry meterRegistry) {
+        meters.values().forEach(meterRegistry::remove);
+        meters.clear();
+    }
+
+    private void registerMeter(MeterRegistry meterRegistry, ThingUID thingUID, LongSupplier count) {
+        // the registry only holds a weak reference to the count, which is kept in the counts map
+        meters.put(thingUID,
+                FunctionCounter.builder(METRIC_MESSAGES_RECEIVED, count, LongSupplier::getAsLong)
+                        .tags(TAG_ADDON, addonId, TAG_THING, thingUID.getAsString()).description(description)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.openhab.io.metrics.api.AddonMeterFilter.TAG_ADDON;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link TransformationMetrics} publishes the latency of the transformations of a transformation service.
+ * Nothing is recorded while there is no meter registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransformationMetrics extends AbstractAddonMeters {
+    private static final String METRIC_TRANSFORMATION = "openhab.addon.transformation";
+
+    private final String serviceId;
+    private volatile @Nullable Timer timer;
+
+    /**
+     * @param serviceId the id of the transformation service, used as {@value AddonMeterFilter#TAG_ADDON} tag
+     */
+    public TransformationMetrics(String serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    /**
+     * Records a transformation which started at the given {@link System#nanoTime()}, whether it succeeded or not.
+     */
+    public void record(long startNanos) {
+        Timer timer = this.timer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    void registerMeters(MeterRegistry meterRegistry) {
+        timer = Timer.builder(METRIC_TRANSFORMATION).tag(TAG_ADDON, serviceId)
+                .description("Time to transform a value").register(meterRegistry);
+    }
+
+    @Override
+    void removeMeters(MeterRegistry meterRegistry) {
+        Timer timer = this.timer;
+        if (timer != null) {
+            meterRegistry.remove(timer);
+            this.timer = null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Tests which meters the {@link AddonMeterFilter} publishes as histograms.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AddonMeterFilterTest {
+
+    private final AddonMeterFilter filter = new AddonMeterFilter();
+
+    @Test
+    public void timerOfAddonIsPublishedAsHistogram() {
+        DistributionStatisticConfig config = configure("openhab.addon.persistence.store", Meter.Type.TIMER,
+                DistributionStatisticConfig.DEFAULT);
+
+        assertTrue(config.isPercentileHistogram());
+        assertEquals(Duration.ofMillis(1).toNanos(), config.getMinimumExpectedValueAsDouble());
+        assertEquals(Duration.ofSeconds(30).toNanos(), config.getMaximumExpectedValueAsDouble());
+    }
+
+    @Test
+    public void distributionSummaryOfAddonIsPublishedAsHistogram() {
+        DistributionStatisticConfig config = configure("openhab.addon.message.size", Meter.Type.DISTRIBUTION_SUMMARY,
+                DistributionStatisticConfig.DEFAULT);
+
+        assertTrue(config.isPercentileHistogram());
+    }
+
+    @Test
+    public void percentilesConfiguredByAddonAreKept() {
+        DistributionStatisticConfig config = configure("openhab.addon.transformation", Meter.Type.TIMER,
+                DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build());
+
+        assertTrue(config.isPercentileHistogram());
+        assertArrayEquals(new double[] { 0.5, 0.99 }, config.getPercentiles());
+    }
+
+    @Test
+    public void otherMetersAreNotChanged() {
+        assertSame(DistributionStatisticConfig.DEFAULT,
+                configure("openhab.event.count", Meter.Type.TIMER, DistributionStatisticConfig.DEFAULT));
+        assertSame(DistributionStatisticConfig.DEFAULT,
+                configure("openhab.addon.messages.received", Meter.Type.COUNTER, DistributionStatisticConfig.DEFAULT));
+    }
+
+    private DistributionStatisticConfig configure(String name, Meter.Type type, DistributionStatisticConfig config) {
+        Meter.Id id = new Meter.Id(name, Tags.of(AddonMeterFilter.TAG_ADDON, "test"), null, null, type);
+        return Objects.requireNonNull(filter.configure(id, config));
+    }
+}
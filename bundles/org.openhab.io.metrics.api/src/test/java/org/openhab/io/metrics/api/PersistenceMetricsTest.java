@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the meters of a persistence service published by the {@link PersistenceMetrics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetricsTest {
+    private static final String STORE = "openhab.addon.persistence.store";
+    private static final String QUERY = "openhab.addon.persistence.query";
+    private static final String QUEUE = "openhab.addon.persistence.queue";
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final PersistenceMetrics metrics = new PersistenceMetrics("jdbc", queueDepth::get);
+
+    @Test
+    public void nothingIsRecordedWithoutRegistry() {
+        metrics.recordStore(System.nanoTime());
+        metrics.recordQuery(System.nanoTime());
+
+        CompositeMeterRegistry registry = createRegistry();
+        metrics.setMeterRegistryProvider(provider(registry));
+
+        assertEquals(0, registry.get(STORE).tag("addon", "jdbc").timer().count());
+        assertEquals(0, registry.get(QUERY).tag("addon", "jdbc").timer().count());
+    }
+
+    @Test
+    public void storesAndQueriesAreRecorded() {
+        CompositeMeterRegistry registry = createRegistry();
+        metrics.setMeterRegistryProvider(provider(registry));
+        queueDepth.set(3);
+
+        metrics.recordStore(System.nanoTime());
+        metrics.recordStore(System.nanoTime());
+        metrics.recordQuery(System.nanoTime());
+
+        assertEquals(2, registry.get(STORE).tag("addon", "jdbc").timer().count());
+        assertEquals(1, registry.get(QUERY).tag("addon", "jdbc").timer().count());
+        assertEquals(3, registry.get(QUEUE).tag("addon", "jdbc").gauge().value());
+    }
+
+    @Test
+    public void lazyResultIsRecordedWhenItHasBeenRead() {
+        CompositeMeterRegistry registry = createRegistry();
+        metrics.setMeterRegistryProvider(provider(registry));
+
+        Iterable<String> result = metrics.recordQuery(List.of("a", "b"));
+        Iterator<String> iterator = result.iterator();
+        iterator.next();
+        assertTrue(iterator.hasNext());
+        assertEquals(0, registry.get(QUERY).timer().count());
+
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+        assertEquals(1, registry.get(QUERY).timer().count());
+
+        // every iteration queries the database again
+        result.forEach(value -> {
+        });
+        assertEquals(2, registry.get(QUERY).timer().count());
+    }
+
+    @Test
+    public void metersAreRemovedWhenProviderIsUnset() {
+        CompositeMeterRegistry registry = createRegistry();
+        MeterRegistryProvider provider = provider(registry);
+        metrics.setMeterRegistryProvider(provider);
+
+        metrics.unsetMeterRegistryProvider(provider);
+        metrics.recordStore(System.nanoTime());
+
+        assertNull(registry.find(STORE).timer());
+        assertNull(registry.find(QUERY).timer());
+        assertNull(registry.find(QUEUE).gauge());
+    }
+
+    @Test
+    public void metersMoveToRegistryOfNewProvider() {
+        CompositeMeterRegistry oldRegistry = createRegistry();
+        CompositeMeterRegistry newRegistry = createRegistry();
+        MeterRegistryProvider oldProvider = provider(oldRegistry);
+        metrics.setMeterRegistryProvider(oldProvider);
+
+        metrics.setMeterRegistryProvider(provider(newRegistry));
+        // the new provider may be bound before the old one is unbound
+        metrics.unsetMeterRegistryProvider(oldProvider);
+        metrics.recordStore(System.nanoTime());
+
+        assertNull(oldRegistry.find(STORE).timer());
+        assertEquals(1, newRegistry.get(STORE).timer().count());
+    }
+
+    private static CompositeMeterRegistry createRegistry() {
+        CompositeMeterRegistry registry = new CompositeMeterRegistry();
+        registry.add(new SimpleMeterRegistry());
+        return registry;
+    }
+
+    private static MeterRegistryProvider provider(CompositeMeterRegistry registry) {
+        return () -> registry;
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.thing.ThingUID;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the counters of received messages published by the {@link ThingMessageCounters}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ThingMessageCountersTest {
+    private static final String MESSAGES_RECEIVED = "openhab.addon.messages.received";
+    private static final ThingUID THING_UID = new ThingUID("test", "bridge", "one");
+
+    private final ThingMessageCounters counters = new ThingMessageCounters("test", "Messages received");
+    private final CompositeMeterRegistry registry = createRegistry();
+
+    @Test
+    public void thingsRegisteredBeforeProviderArePublished() {
+        AtomicLong received = new AtomicLong(5);
+        counters.register(THING_UID, received::get);
+
+        counters.setMeterRegistryProvider(provider(registry));
+        received.incrementAndGet();
+
+        assertEquals(6, count(registry));
+    }
+
+    @Test
+    public void handlerCreatedAgainReplacesCount() {
+        counters.setMeterRegistryProvider(provider(registry));
+        counters.register(THING_UID, () -> 10);
+
+        counters.register(THING_UID, () -> 1);
+
+        assertEquals(1, count(registry));
+        assertEquals(1, registry.find(MESSAGES_RECEIVED).functionCounters().size());
+    }
+
+    @Test
+    public void unregisteredThingIsRemoved() {
+        counters.setMeterRegistryProvider(provider(registry));
+        counters.register(THING_UID, () -> 10);
+
+        counters.unregister(THING_UID);
+
+        assertNull(registry.find(MESSAGES_RECEIVED).functionCounter());
+    }
+
+    @Test
+    public void countersMoveToRegistryOfNewProvider() {
+        MeterRegistryProvider oldProvider = provider(registry);
+        counters.setMeterRegistryProvider(oldProvider);
+        counters.register(THING_UID, () -> 10);
+        CompositeMeterRegistry newRegistry = createRegistry();
+
+        counters.setMeterRegistryProvider(provider(newRegistry));
+        counters.unsetMeterRegistryProvider(oldProvider);
+
+        assertNull(registry.find(MESSAGES_RECEIVED).functionCounter());
+        assertEquals(10, count(newRegistry));
+    }
+
+    private static double count(CompositeMeterRegistry registry) {
+        return registry.get(MESSAGES_RECEIVED).tags("addon", "test", "thing", THING_UID.getAsString())
+                .functionCounter().count();
+    }
+
+    private static CompositeMeterRegistry createRegistry() {
+        CompositeMeterRegistry registry = new CompositeMeterRegistry();
+        registry.add(new SimpleMeterRegistry());
+        return registry;
+    }
+
+    private static MeterRegistryProvider provider(CompositeMeterRegistry registry) {
+        return () -> registry;
+    }
+}
@@ -31,11 +31,18 @@ public class MetricsConfiguration {
 
     public boolean jmxMetricsEnabled = false;
 
+    public boolean otlpMetricsEnabled = false;
+    public String otlpURL = "http://localhost:4318/v1/metrics";
+    public @Nullable String otlpHeaders;
+    public Integer otlpUpdateIntervalInSeconds = 60;
+
     @Override
     public String toString() {
         return "MetricsConfiguration{" + "influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
                 + '\'' + ", influxDB='" + influxDB + '\'' + ", influxPassword='" + influxPassword + '\''
                 + ", influxUsername='" + influxUsername + '\'' + ", influxUpdateIntervalInSeconds="
-                + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled + '}';
+                + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled + ", otlpMetricsEnabled="
+                + otlpMetricsEnabled + ", otlpURL='" + otlpURL + '\'' + ", otlpUpdateIntervalInSeconds="
+                + otlpUpdateIntervalInSeconds + '}';
     }
 }
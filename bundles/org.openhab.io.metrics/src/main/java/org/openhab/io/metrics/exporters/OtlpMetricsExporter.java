@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.io.metrics.MetricsConfiguration;
+import org.openhab.io.metrics.MetricsExporter;
+import org.openhab.io.metrics.exporters.otlp.OtlpConfig;
+import org.openhab.io.metrics.exporters.otlp.OtlpMeterRegistry;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * The {@link OtlpMetricsExporter} class implements a MetricsExporter for OpenTelemetry collectors (OTLP).
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMetricsExporter extends MetricsExporter {
+
+    private @Nullable OtlpMeterRegistry otlpMeterRegistry;
+    private @Nullable CompositeMeterRegistry meterRegistry;
+
+    @Override
+    public void start(CompositeMeterRegistry meterRegistry, MetricsConfiguration metricsConfiguration) {
+        OtlpMeterRegistry otlpMeterRegistry = new OtlpMeterRegistry(getOtlpConfig(metricsConfiguration),
+                Clock.SYSTEM);
+        otlpMeterRegistry.start(new NamedThreadFactory("metrics-otlp"));
+        meterRegistry.add(otlpMeterRegistry);
+        this.otlpMeterRegistry = otlpMeterRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void shutdown() {
+        OtlpMeterRegistry otlpMeterRegistry = this.otlpMeterRegistry;
+        this.otlpMeterRegistry = null;
+        if (otlpMeterRegistry == null) {
+            return;
+        }
+
+        CompositeMeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            meterRegistry.remove(otlpMeterRegistry);
+            this.meterRegistry = null;
+        }
+        // publishes what was recorded since the last step
+        otlpMeterRegistry.close();
+    }
+
+    private OtlpConfig getOtlpConfig(MetricsConfiguration metricsConfiguration) {
+        Map<String, String> headers = parseHeaders(metricsConfiguration.otlpHeaders);
+        return new OtlpConfig() {
+            @Override
+            public Duration step() {
+                return Duration.ofSeconds(metricsConfiguration.otlpUpdateIntervalInSeconds);
+            }
+
+            @Override
+            public String url() {
+                return metricsConfiguration.otlpURL;
+            }
+
+            @Override
+            public Map<String, String> headers() {
+                return headers;
+            }
+
+            @Override
+            @io.micrometer.core.lang.Nullable
+            @Nullable
+            public String get(@Nullable String k) {
+                return null; // accept the rest of the defaults
+            }
+        };
+    }
+
+    /**
+     * Parses headers in the form <code>name1=value1,name2=value2</code>.
+     */
+    private static Map<String, String> parseHeaders(@Nullable String headers) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (headers != null) {
+            for (String header : headers.split(",")) {
+                int separator = header.indexOf('=');
+                if (separator > 0) {
+                    result.put(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isEnabled(MetricsConfiguration config) {
+        return config.otlpMetricsEnabled;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link Base2ExponentialHistogram} collects positive values in the buckets of an OpenTelemetry exponential
+ * histogram.
+ *
+ * The bucket with index <code>i</code> holds the values in <code>(base^i, base^(i+1)]</code> with
+ * <code>base = 2^(2^-scale)</code>. Recording starts at the highest scale and the scale is reduced whenever the
+ * recorded values do not fit into the maximum number of buckets, so the resolution adapts to the range of the values
+ * without any configuration. The buckets are kept in a ring buffer, so recording a value only allocates when the
+ * buckets have to be merged for a lower scale.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Base2ExponentialHistogram {
+    public static final int MAX_SCALE = 20;
+
+    private static final long MANTISSA_MASK = 0x000FFFFFFFFFFFFFL;
+
+    /**
+     * The recorded values since the last reset.
+     *
+     * @param scale the scale of the buckets
+     * @param zeroCount the number of values which are zero
+     * @param offset the index of the first bucket
+     * @param bucketCounts the number of values in the buckets, starting at the offset
+     * @param count the number of values
+     * @param sum the sum of the values
+     * @param min the smallest value, or zero if no values were recorded
+     * @param max the largest value, or zero if no values were recorded
+     */
+    public record Snapshot(int scale, long zeroCount, int offset, long[] bucketCounts, long count, double sum,
+            double min, double max) {
+    }
+
+    private final int maxBuckets;
+    private final long[] counts;
+    private int scale = MAX_SCALE;
+    private int indexStart;
+    private int indexEnd = -1;
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param maxBuckets the maximum number of buckets, must be at least 2
+     */
+    public Base2ExponentialHistogram(int maxBuckets) {
+        if (maxBuckets < 2) {
+            throw new IllegalArgumentException("at least 2 buckets are required");
+        }
+        this.maxBuckets = maxBuckets;
+        this.counts = new long[maxBuckets];
+    }
+
+    /**
+     * Records a value. Negative, infinite and NaN values are ignored, values below {@link Double#MIN_NORMAL} are
+     * counted as zero.
+     */
+    public synchronized void record(double value) {
+        if (!(value >= 0) || value == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (value < Double.MIN_NORMAL) {
+            zeroCount++;
+            return;
+        }
+
+        int index = index(value, scale);
+        if (indexEnd < indexStart) {
+            indexStart = index;
+            indexEnd = index;
+        } else if (index < indexStart || index > indexEnd) {
+            int start = Math.min(indexStart, index);
+            int end = Math.max(indexEnd, index);
+            int change = 0;
+            while ((end >> change) - (start >> change) >= maxBuckets) {
+                change++;
+            }
+            if (change > 0) {
+                downscale(change);
+                index >>= change;
+                start >>= change;
+                end >>= change;
+            }
+            indexStart = start;
+            indexEnd = end;
+        }
+        counts[Math.floorMod(index, maxBuckets)]++;
+    }
+
+    /**
+     * Returns the values recorded since the last call and starts over at the highest scale.
+     */
+    public synchronized Snapshot snapshotAndReset() {
+        long[] bucketCounts;
+        if (indexEnd < indexStart) {
+            bucketCounts = new long[0];
+        } else {
+            bucketCounts = new long[indexEnd - indexStart + 1];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] = counts[Math.floorMod(indexStart + i, maxBuckets)];
+            }
+        }
+        Snapshot snapshot = new Snapshot(scale, zeroCount, bucketCounts.length == 0 ? 0 : indexStart, bucketCounts,
+                count, sum, count == 0 ? 0 : min, count == 0 ? 0 : max);
+
+        Arrays.fill(counts, 0);
+        scale = MAX_SCALE;
+        indexStart = 0;
+        indexEnd = -1;
+        zeroCount = 0;
+        count = 0;
+        sum = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        return snapshot;
+    }
+
+    /**
+     * Merges neighbouring buckets, each step halves the resolution.
+     */
+    private void downscale(int change) {
+        long[] merged = new long[maxBuckets];
+        for (int i = indexStart; i <= indexEnd; i++) {
+            merged[Math.floorMod(i >> change, maxBuckets)] += counts[Math.floorMod(i, maxBuckets)];
+        }
+        System.arraycopy(merged, 0, counts, 0, maxBuckets);
+        scale -= change;
+    }
+
+    /**
+     * Returns the index of the bucket for a positive, normal value.
+     */
+    static int index(double value, int scale) {
+        int exponent = Math.getExponent(value);
+        boolean powerOfTwo = (Double.doubleToRawLongBits(value) & MANTISSA_MASK) == 0;
+        if (scale > 0) {
+            if (powerOfTwo) {
+                // exact powers of two are the upper bound of their bucket
+                return (exponent << scale) - 1;
+            }
+            return (int) Math.ceil(Math.log(value) * Math.scalb(1 / Math.log(2), scale)) - 1;
+        }
+        return (powerOfTwo ? exponent - 1 : exponent) >> -scale;
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+
+/**
+ * The {@link OtlpConfig} holds the configuration of the {@link OtlpMeterRegistry}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface OtlpConfig extends StepRegistryConfig {
+    String DEFAULT_URL = "http://localhost:4318/v1/metrics";
+    int DEFAULT_MAX_BUCKETS = 160;
+
+    @Override
+    default String prefix() {
+        return "otlp";
+    }
+
+    /**
+     * The OTLP/HTTP endpoint of the collector, the metrics are sent as JSON.
+     */
+    default String url() {
+        String url = get(prefix() + ".url");
+        return url == null ? DEFAULT_URL : url;
+    }
+
+    /**
+     * Additional HTTP headers, e.g. for the authentication at the collector.
+     */
+    default Map<String, String> headers() {
+        return Map.of();
+    }
+
+    /**
+     * The attributes of the resource which produces the metrics.
+     */
+    default Map<String, String> resourceAttributes() {
+        return Map.of("service.name", "openhab");
+    }
+
+    /**
+     * The maximum number of buckets of the exponential histograms of timers and distribution summaries.
+     */
+    default int maxBuckets() {
+        return DEFAULT_MAX_BUCKETS;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.AbstractDistributionSummary;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
+
+/**
+ * The {@link OtlpDistributionSummary} records amounts in a {@link Base2ExponentialHistogram}, which is exported and
+ * reset on every publication of the {@link OtlpMeterRegistry}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class OtlpDistributionSummary extends AbstractDistributionSummary {
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder total = new DoubleAdder();
+    private final TimeWindowMax max;
+    private final Base2ExponentialHistogram histogram;
+
+    OtlpDistributionSummary(Id id, Clock clock, DistributionStatisticConfig distributionStatisticConfig, double scale,
+            int maxBuckets) {
+        super(id, clock, distributionStatisticConfig, scale, false);
+        this.max = new TimeWindowMax(clock, distributionStatisticConfig);
+        this.histogram = new Base2ExponentialHistogram(maxBuckets);
+    }
+
+    @Override
+    protected void recordNonNegative(double amount) {
+        count.increment();
+        total.add(amount);
+        max.record(amount);
+        histogram.record(amount);
+    }
+
+    @Override
+    public long count() {
+        return count.sum();
+    }
+
+    @Override
+    public double totalAmount() {
+        return total.sum();
+    }
+
+    @Override
+    public double max() {
+        return max.poll();
+    }
+
+    /**
+     * Returns the amounts which were recorded since the last call.
+     */
+    Base2ExponentialHistogram.Snapshot snapshotAndReset() {
+        return histogram.snapshotAndReset();
+    }
+}
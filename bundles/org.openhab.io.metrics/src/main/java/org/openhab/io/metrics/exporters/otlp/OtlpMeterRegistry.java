@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonWriter;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.pause.PauseDetector;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.util.MeterPartition;
+import io.micrometer.core.ipc.http.HttpSender;
+import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
+
+/**
+ * The {@link OtlpMeterRegistry} pushes the meters to an OpenTelemetry collector using OTLP/HTTP with JSON encoding.
+ *
+ * All sums and histograms are sent with delta temporality, i.e. every publication only contains what was recorded
+ * during the last step. Counters use the step counters of Micrometer, timers and distribution summaries are recorded
+ * in base-2 exponential histograms, which need no bucket configuration and are reset on every publication.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMeterRegistry extends StepMeterRegistry {
+    private static final String SCOPE_NAME = "org.openhab.io.metrics";
+    private static final int AGGREGATION_TEMPORALITY_DELTA = 1;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private static final String TYPE_SUM = "sum";
+    private static final String TYPE_GAUGE = "gauge";
+    private static final String TYPE_HISTOGRAM = "histogram";
+    private static final String TYPE_EXPONENTIAL_HISTOGRAM = "exponentialHistogram";
+
+    @FunctionalInterface
+    private interface DataPointWriter {
+        void write(JsonWriter json) throws IOException;
+    }
+
+    private record Metric(String name, @Nullable String description, @Nullable String unit, String type,
+            List<DataPointWriter> dataPoints) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(OtlpMeterRegistry.class);
+    private final OtlpConfig config;
+    private final HttpSender httpSender;
+
+    public OtlpMeterRegistry(OtlpConfig config, Clock clock) {
+        this(config, clock, new HttpUrlConnectionSender(config.connectTimeout(), config.readTimeout()));
+    }
+
+    public OtlpMeterRegistry(OtlpConfig config, Clock clock, HttpSender httpSender) {
+        super(config, clock);
+        this.config = config;
+        this.httpSender = httpSender;
+        // OpenTelemetry uses the same dot separated names as Micrometer
+        config().namingConvention(NamingConvention.identity);
+    }
+
+    @Override
+    protected TimeUnit getBaseTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+
+    @Override
+    protected Timer newTimer(Meter.Id id, DistributionStatisticConfig distributionStatisticConfig,
+            PauseDetector pauseDetector) {
+        return new OtlpTimer(id, clock, distributionStatisticConfig, pauseDetector, getBaseTimeUnit(),
+                config.maxBuckets());
+    }
+
+    @Override
+    protected DistributionSummary newDistributionSummary(Meter.Id id,
+            DistributionStatisticConfig distributionStatisticConfig, double scale) {
+        return new OtlpDistributionSummary(id, clock, distributionStatisticConfig, scale, config.maxBuckets());
+    }
+
+    @Override
+    protected void publish() {
+        long stepMillis = config.step().toMillis();
+        long endMillis = clock.wallTime() / stepMillis * stepMillis;
+        for (List<Meter> batch : MeterPartition.partition(this, config.batchSize())) {
+            try {
+                HttpSender.Request.Builder request = httpSender.post(config.url())
+                        .withJsonContent(writeMetrics(batch, endMillis - stepMillis, endMillis));
+                config.headers().forEach(request::withHeader);
+                request.send().onSuccess(response -> logger.trace("Sent {} meters to {}", batch.size(), config.url()))
+                        .onError(response -> logger.warn("Failed to send metrics to {}: {} {}", config.url(),
+                                response.code(), response.body()));
+            } catch (Throwable e) {
+                logger.warn("Failed to send metrics to {}: {}", config.url(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the OTLP JSON request for the given meters. The histograms of the meters are reset.
+     */
+    String writeMetrics(List<Meter> meters, long startMillis, long endMillis) throws IOException {
+        Map<String, Metric> metrics = new LinkedHashMap<>();
+        for (Meter meter : meters) {
+            collect(meter, metrics, startMillis, endMillis);
+        }
+
+        StringWriter out = new StringWriter();
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject().name("resourceMetrics").beginArray().beginObject();
+        json.name("resource").beginObject();
+        writeAttributes(json, config.resourceAttributes());
+        json.endObject();
+        json.name("scopeMetrics").beginArray().beginObject();
+        json.name("scope").beginObject().name("name").value(SCOPE_NAME).endObject();
+        json.name("metrics").beginArray();
+        for (Metric metric : metrics.values()) {
+            writeMetric(json, metric);
+        }
+        json.endArray().endObject().endArray().endObject().endArray().endObject();
+        json.flush();
+        return out.toString();
+    }
+
+    private void collect(Meter meter, Map<String, Metric> metrics, long startMillis, long endMillis) {
+        Meter.Id id = meter.getId();
+        String name = getConventionName(id);
+        List<Tag> tags = getConventionTags(id);
+        String timeUnit = unit(getBaseTimeUnit());
+        if (meter instanceof TimeGauge gauge) {
+            addGauge(metrics, id, name, timeUnit, tags, gauge.value(getBaseTimeUnit()), endMillis);
+        } else if (meter instanceof Gauge gauge) {
+            addGauge(metrics, id, name, id.getBaseUnit(), tags, gauge.value(), endMillis);
+        } else if (meter instanceof Counter counter) {
+            addSum(metrics, id, name, id.getBaseUnit(), tags, counter.count(), startMillis, endMillis);
+        } else if (meter instanceof FunctionCounter counter) {
+            addSum(metrics, id, name, id.getBaseUnit(), tags, counter.count(), startMillis, endMillis);
+        } else if (meter instanceof OtlpTimer timer) {
+            addExponentialHistogram(metrics, id, name, timeUnit, tags, timer.snapshotAndReset(), startMillis,
+                    endMillis);
+        } else if (meter instanceof OtlpDistributionSummary summary) {
+            addExponentialHistogram(metrics, id, name, id.getBaseUnit(), tags, summary.snapshotAndReset(),
+                    startMillis, endMillis);
+        } else if (meter instanceof FunctionTimer timer) {
+            double count = timer.count();
+            double sum = timer.totalTime(getBaseTimeUnit());
+            metric(metrics, id, name, timeUnit, TYPE_HISTOGRAM).dataPoints().add(json -> {
+                writeDataPointStart(json, tags, startMillis, endMillis);
+                json.name("count").value(Long.toString((long) count));
+                json.name("sum").value(sum);
+                json.name("bucketCounts").beginArray().value(Long.toString((long) count)).endArray();
+                json.name("explicitBounds").beginArray().endArray();
+                json.endObject();
+            });
+        } else if (meter instanceof LongTaskTimer timer) {
+            addGauge(metrics, id, name + ".active", null, tags, timer.activeTasks(), endMillis);
+            addGauge(metrics, id, name + ".duration", timeUnit, tags, timer.duration(getBaseTimeUnit()), endMillis);
+        } else {
+            for (Measurement measurement : meter.measure()) {
+                addGauge(metrics, id, name + "." + measurement.getStatistic().getTagValueRepresentation(),
+                        id.getBaseUnit(), tags, measurement.getValue(), endMillis);
+            }
+        }
+    }
+
+    private Metric metric(Map<String, Metric> metrics, Meter.Id id, String name, @Nullable String unit, String type) {
+        // meters with the same name but different tags are data points of the same metric
+        return metrics.computeIfAbsent(name + " " + type,
+                k -> new Metric(name, id.getDescription(), unit, type, new ArrayList<>()));
+    }
+
+    private void addGauge(Map<String, Metric> metrics, Meter.Id id, String name, @Nullable String unit, List<Tag> tags,
+            double value, long timeMillis) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        metric(metrics, id, name, unit, TYPE_GAUGE).dataPoints().add(json -> {
+            json.beginObject();
+            writeTags(json, tags);
+            json.name("timeUnixNano").value(Long.toString(timeMillis * NANOS_PER_MILLI));
+            json.name("asDouble").value(value);
+            json.endObject();
+        });
+    }
+
+    private void addSum(Map<String, Metric> metrics, Meter.Id id, String name, @Nullable String unit, List<Tag> tags,
+            double value, long startMillis, long endMillis) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        metric(metrics, id, name, unit, TYPE_SUM).dataPoints().add(json -> {
+            writeDataPointStart(json, tags, startMillis, endMillis);
+            json.name("asDouble").value(value);
+            json.endObject();
+        });
+    }
+
+    private void addExponentialHistogram(Map<String, Metric> metrics, Meter.Id id, String name, @Nullable String unit,
+            List<Tag> tags, Base2ExponentialHistogram.Snapshot snapshot, long startMillis, long endMillis) {
+        metric(metrics, id, name, unit, TYPE_EXPONENTIAL_HISTOGRAM).dataPoints().add(json -> {
+            writeDataPointStart(json, tags, startMillis, endMillis);
+            json.name("count").value(Long.toString(snapshot.count()));
+            json.name("sum").value(snapshot.sum());
+            json.name("scale").value(snapshot.scale());
+            json.name("zeroCount").value(Long.toString(snapshot.zeroCount()));
+            json.name("positive").beginObject().name("offset").value(snapshot.offset());
+            json.name("bucketCounts").beginArray();
+            for (long bucketCount : snapshot.bucketCounts()) {
+                json.value(Long.toString(bucketCount));
+            }
+            json.endArray().endObject();
+            if (snapshot.count() > 0) {
+                json.name("min").value(snapshot.min());
+                json.name("max").value(snapshot.max());
+            }
+            json.endObject();
+        });
+    }
+
+    private void writeMetric(JsonWriter json, Metric metric) throws IOException {
+        json.beginObject().name("name").value(metric.name());
+        String description = metric.description();
+        if (description != null) {
+            json.name("description").value(description);
+        }
+        String unit = metric.unit();
+        if (unit != null) {
+            json.name("unit").value(unit);
+        }
+        json.name(metric.type()).beginObject().name("dataPoints").beginArray();
+        for (DataPointWriter dataPoint : metric.dataPoints()) {
+            dataPoint.write(json);
+        }
+        json.endArray();
+        if (!TYPE_GAUGE.equals(metric.type())) {
+            json.name("aggregationTemporality").value(AGGREGATION_TEMPORALITY_DELTA);
+        }
+        if (TYPE_SUM.equals(metric.type())) {
+            json.name("isMonotonic").value(true);
+        }
+        json.endObject().endObject();
+    }
+
+    private void writeDataPointStart(JsonWriter json, List<Tag> tags, long startMillis, long endMillis)
+            throws IOException {
+        json.beginObject();
+        writeTags(json, tags);
+        json.name("startTimeUnixNano").value(Long.toString(startMillis * NANOS_PER_MILLI));
+        json.name("timeUnixNano").value(Long.toString(endMillis * NANOS_PER_MILLI));
+    }
+
+    private void writeTags(JsonWriter json, List<Tag> tags) throws IOException {
+        json.name("attributes").beginArray();
+        for (Tag tag : tags) {
+            writeAttribute(json, tag.getKey(), tag.getValue());
+        }
+        json.endArray();
+    }
+
+    private void writeAttributes(JsonWriter json, Map<String, String> attributes) throws IOException {
+        json.name("attributes").beginArray();
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            writeAttribute(json, attribute.getKey(), attribute.getValue());
+        }
+        json.endArray();
+    }
+
+    private void writeAttribute(JsonWriter json, String key, String value) throws IOException {
+        json.beginObject().name("key").value(key);
+        json.name("value").beginObject().name("stringValue").value(value).endObject();
+        json.endObject();
+    }
+
+    private static String unit(TimeUnit timeUnit) {
+        return switch (timeUnit) {
+            case NANOSECONDS -> "ns";
+            case MICROSECONDS -> "us";
+            case MILLISECONDS -> "ms";
+            case SECONDS -> "s";
+            case MINUTES -> "min";
+            case HOURS -> "h";
+            case DAYS -> "d";
+        };
+    }
+}
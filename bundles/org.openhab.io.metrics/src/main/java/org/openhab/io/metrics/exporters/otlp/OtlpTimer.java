@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.micrometer.core.instrument.AbstractTimer;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
+import io.micrometer.core.instrument.distribution.pause.PauseDetector;
+import io.micrometer.core.instrument.util.TimeUtils;
+
+/**
+ * The {@link OtlpTimer} records durations in a {@link Base2ExponentialHistogram}, which is exported and reset on
+ * every publication of the {@link OtlpMeterRegistry}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class OtlpTimer extends AbstractTimer {
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder totalNanos = new DoubleAdder();
+    private final TimeWindowMax max;
+    private final Base2ExponentialHistogram histogram;
+
+    OtlpTimer(Id id, Clock clock, DistributionStatisticConfig distributionStatisticConfig, PauseDetector pauseDetector,
+            TimeUnit baseTimeUnit, int maxBuckets) {
+        super(id, clock, distributionStatisticConfig, pauseDetector, baseTimeUnit, false);
+        this.max = new TimeWindowMax(clock, distributionStatisticConfig);
+        this.histogram = new Base2ExponentialHistogram(maxBuckets);
+    }
+
+    @Override
+    protected void recordNonNegative(long amount, TimeUnit unit) {
+        long nanos = unit.toNanos(amount);
+        count.increment();
+        totalNanos.add(nanos);
+        max.record(nanos, TimeUnit.NANOSECONDS);
+        histogram.record(TimeUtils.nanosToUnit(nanos, baseTimeUnit()));
+    }
+
+    @Override
+    public long count() {
+        return count.sum();
+    }
+
+    @Override
+    public double totalTime(TimeUnit unit) {
+        return TimeUtils.nanosToUnit(totalNanos.sum(), unit);
+    }
+
+    @Override
+    public double max(TimeUnit unit) {
+        return max.poll(unit);
+    }
+
+    /**
+     * Returns the durations in the base time unit which were recorded since the last call.
+     */
+    Base2ExponentialHistogram.Snapshot snapshotAndReset() {
+        return histogram.snapshotAndReset();
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.transform;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.api.TransformationMetrics;
+
+/**
+ * The {@link TimedTransformationService} passes the transformations on to another {@link TransformationService} and
+ * records how long they take.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TimedTransformationService implements TransformationService {
+    private final TransformationService delegate;
+    private final TransformationMetrics metrics;
+
+    TimedTransformationService(TransformationService delegate, TransformationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public @Nullable String transform(String function, String source) throws TransformationException {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.transform(function, source);
+        } finally {
+            metrics.record(startNanos);
+        }
+    }
+}
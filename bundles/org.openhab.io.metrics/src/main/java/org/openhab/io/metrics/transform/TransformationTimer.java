@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.transform;
+
+import java.util.Collection;
+import java.util.Hashtable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.transform.TransformationService;
+import org.openhab.io.metrics.api.TransformationMetrics;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.framework.hooks.service.FindHook;
+import org.osgi.service.component.ComponentConstants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TransformationTimer} records the latency of all transformations in one place, so the transformation
+ * services do not need to know about metrics.
+ * <p>
+ * For every {@link TransformationService} a {@link TimedTransformationService} is registered with the same
+ * properties. A {@link FindHook} hides the original service from the lookups of other bundles, so they get the timed
+ * one. Components which are already bound to the original service keep using it and are not timed.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(immediate = true, service = FindHook.class)
+@NonNullByDefault
+public class TransformationTimer implements FindHook {
+    static final String PROPERTY_TIMED = "openhab.metrics.timed";
+
+    private static final String TRANSFORMATION_SERVICE = TransformationService.class.getName();
+    // framework and component properties which belong to the registration of the original service
+    private static final Set<String> REGISTRATION_PROPERTIES = Set.of(Constants.OBJECTCLASS, Constants.SERVICE_ID,
+            Constants.SERVICE_PID, Constants.SERVICE_BUNDLEID, Constants.SERVICE_SCOPE,
+            ComponentConstants.COMPONENT_NAME, ComponentConstants.COMPONENT_ID);
+
+    private final Logger logger = LoggerFactory.getLogger(TransformationTimer.class);
+    private final BundleContext bundleContext;
+    private final MeterRegistryProvider meterRegistryProvider;
+    private final Map<ServiceReference<?>, TimedRegistration> timedServices = new ConcurrentHashMap<>();
+
+    @Activate
+    public TransformationTimer(BundleContext bundleContext, @Reference MeterRegistryProvider meterRegistryProvider) {
+        this.bundleContext = bundleContext;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC, target = "(!("
+            + PROPERTY_TIMED + "=true))")
+    protected void addTransformationService(ServiceReference<TransformationService> reference) {
+        Object type = reference.getProperty(TransformationService.SERVICE_PROPERTY_NAME);
+        if (!(type instanceof String)) {
+            logger.debug("Transformation service {} has no type and is not timed", reference);
+            return;
+        }
+        TransformationService service = bundleContext.getService(reference);
+        if (service == null) {
+            return;
+        }
+        TransformationMetrics metrics = new TransformationMetrics(((String) type).toLowerCase(Locale.ROOT));
+        metrics.setMeterRegistryProvider(meterRegistryProvider);
+        ServiceRegistration<TransformationService> registration = bundleContext.registerService(
+                TransformationService.class, new TimedTransformationService(service, metrics),
+                timedProperties(reference));
+        timedServices.put(reference, new TimedRegistration(registration, metrics));
+    }
+
+    protected void removeTransformationService(ServiceReference<TransformationService> reference) {
+        TimedRegistration timed = timedServices.remove(reference);
+        if (timed == null) {
+            return;
+        }
+        try {
+            timed.registration().unregister();
+        } catch (IllegalStateException e) {
+            // already unregistered because this bundle is stopping
+        }
+        timed.metrics().unsetMeterRegistryProvider(meterRegistryProvider);
+        bundleContext.ungetService(reference);
+    }
+
+    @Override
+    public void find(BundleContext context, @Nullable String name, @Nullable String filter, boolean allServices,
+            Collection<ServiceReference<?>> references) {
+        // this bundle has to see the original services to time them
+        if (TRANSFORMATION_SERVICE.equals(name)
+                && context.getBundle().getBundleId() != bundleContext.getBundle().getBundleId()) {
+            references.removeIf(timedServices::containsKey);
+        }
+    }
+
+    private static Hashtable<String, Object> timedProperties(ServiceReference<?> reference) {
+        Hashtable<String, Object> properties = new Hashtable<>();
+        for (String key : reference.getPropertyKeys()) {
+            Object value = reference.getProperty(key);
+            if (value != null && !REGISTRATION_PROPERTIES.contains(key)) {
+                properties.put(key, value);
+            }
+        }
+        properties.put(PROPERTY_TIMED, Boolean.TRUE);
+        return properties;
+    }
+
+    private record TimedRegistration(ServiceRegistration<TransformationService> registration,
+            TransformationMetrics metrics) {
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Base2ExponentialHistogramTest {
+
+    @Test
+    public void powersOfTwoAreTheUpperBoundOfTheirBucket() {
+        assertThat(Base2ExponentialHistogram.index(1, 0), is(-1));
+        assertThat(Base2ExponentialHistogram.index(1.5, 0), is(0));
+        assertThat(Base2ExponentialHistogram.index(2, 0), is(0));
+        assertThat(Base2ExponentialHistogram.index(2.5, 0), is(1));
+        assertThat(Base2ExponentialHistogram.index(8, 1), is(5));
+        assertThat(Base2ExponentialHistogram.index(0.25, -1), is(-2));
+    }
+
+    @Test
+    public void valuesAreRecordedInTheBucketsOfTheirRange() {
+        Base2ExponentialHistogram histogram = new Base2ExponentialHistogram(160);
+        for (int i = 1; i <= 30000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(0);
+
+        Base2ExponentialHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.count(), is(30001L));
+        assertThat(snapshot.zeroCount(), is(1L));
+        assertThat(snapshot.min(), is(0.0));
+        assertThat(snapshot.max(), is(30000.0));
+        assertThat(snapshot.bucketCounts().length, is(lessThanOrEqualTo(160)));
+        assertThat(Arrays.stream(snapshot.bucketCounts()).sum(), is(30000L));
+
+        double base = Math.pow(2, Math.pow(2, -snapshot.scale()));
+        assertThat(Math.pow(base, snapshot.offset()), is(lessThan(1.0)));
+        assertThat(Math.pow(base, snapshot.offset() + snapshot.bucketCounts().length),
+                is(greaterThanOrEqualTo(30000.0)));
+    }
+
+    @Test
+    public void scaleIsReducedToFitTheRangeOfValues() {
+        Base2ExponentialHistogram histogram = new Base2ExponentialHistogram(4);
+        histogram.record(1.5);
+        histogram.record(1000);
+
+        Base2ExponentialHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        // at scale -2 the buckets are (16^i, 16^(i+1)], so the values are in the buckets 0 and 2
+        assertThat(snapshot.scale(), is(-2));
+        assertThat(snapshot.offset(), is(0));
+        assertThat(snapshot.bucketCounts(), is(new long[] { 1, 0, 1 }));
+    }
+
+    @Test
+    public void snapshotResetsTheHistogram() {
+        Base2ExponentialHistogram histogram = new Base2ExponentialHistogram(160);
+        histogram.record(1000);
+        histogram.snapshotAndReset();
+        histogram.record(-1);
+        histogram.record(Double.NaN);
+
+        Base2ExponentialHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.count(), is(0L));
+        assertThat(snapshot.scale(), is(Base2ExponentialHistogram.MAX_SCALE));
+        assertThat(snapshot.bucketCounts().length, is(0));
+    }
+}
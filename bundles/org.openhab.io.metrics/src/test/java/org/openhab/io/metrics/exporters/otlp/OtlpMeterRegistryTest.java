@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.exporters.otlp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Tests the {@link OtlpMeterRegistry} against a local stand-in for an OpenTelemetry collector.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OtlpMeterRegistryTest {
+    private static final Duration STEP = Duration.ofMinutes(1);
+
+    private final BlockingQueue<JsonObject> requests = new LinkedBlockingQueue<>();
+    private final MockClock clock = new MockClock();
+    private @NonNullByDefault({}) HttpServer collector;
+    private @NonNullByDefault({}) OtlpMeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        collector = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        collector.createContext("/v1/metrics", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                requests.add(JsonParser.parseString(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                        .getAsJsonObject());
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        collector.start();
+
+        String url = "http://127.0.0.1:" + collector.getAddress().getPort() + "/v1/metrics";
+        registry = new OtlpMeterRegistry(new OtlpConfig() {
+            @Override
+            public Duration step() {
+                return STEP;
+            }
+
+            @Override
+            public String url() {
+                return url;
+            }
+
+            @Override
+            public @Nullable String get(String key) {
+                return null;
+            }
+        }, clock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        collector.stop(0);
+    }
+
+    @Test
+    public void countersAreSentAsDeltaSums() throws InterruptedException {
+        Counter counter = registry.counter("openhab.addon.messages.received", "addon", "test");
+        counter.increment(3);
+        clock.add(STEP);
+        registry.publish();
+
+        JsonObject sum = getMetric(receive(), "openhab.addon.messages.received").getAsJsonObject("sum");
+        assertThat(sum.get("aggregationTemporality").getAsInt(), is(1));
+        assertThat(sum.get("isMonotonic").getAsBoolean(), is(true));
+        JsonObject dataPoint = sum.getAsJsonArray("dataPoints").get(0).getAsJsonObject();
+        assertThat(dataPoint.get("asDouble").getAsDouble(), is(3.0));
+        JsonObject attribute = dataPoint.getAsJsonArray("attributes").get(0).getAsJsonObject();
+        assertThat(attribute.get("key").getAsString(), is("addon"));
+        assertThat(attribute.getAsJsonObject("value").get("stringValue").getAsString(), is("test"));
+
+        counter.increment();
+        clock.add(STEP);
+        registry.publish();
+
+        dataPoint = getMetric(receive(), "openhab.addon.messages.received").getAsJsonObject("sum")
+                .getAsJsonArray("dataPoints").get(0).getAsJsonObject();
+        assertThat(dataPoint.get("asDouble").getAsDouble(), is(1.0));
+    }
+
+    @Test
+    public void timersAreSentAsExponentialHistograms() throws InterruptedException {
+        Timer timer = registry.timer("openhab.addon.persistence.store");
+        for (int i = 1; i <= 1000; i++) {
+            timer.record(i, TimeUnit.MILLISECONDS);
+        }
+        clock.add(STEP);
+        registry.publish();
+
+        JsonObject metric = getMetric(receive(), "openhab.addon.persistence.store");
+        assertThat(metric.get("unit").getAsString(), is("ms"));
+        JsonObject histogram = metric.getAsJsonObject("exponentialHistogram");
+        assertThat(histogram.get("aggregationTemporality").getAsInt(), is(1));
+        JsonObject dataPoint = histogram.getAsJsonArray("dataPoints").get(0).getAsJsonObject();
+        assertThat(dataPoint.get("count").getAsLong(), is(1000L));
+        assertThat(dataPoint.get("sum").getAsDouble(), is(500500.0));
+        assertThat(dataPoint.get("min").getAsDouble(), is(1.0));
+        assertThat(dataPoint.get("max").getAsDouble(), is(1000.0));
+        long bucketCount = 0;
+        for (JsonElement count : dataPoint.getAsJsonObject("positive").getAsJsonArray("bucketCounts")) {
+            bucketCount += count.getAsLong();
+        }
+        assertThat(bucketCount, is(1000L));
+
+        clock.add(STEP);
+        registry.publish();
+
+        dataPoint = getMetric(receive(), "openhab.addon.persistence.store").getAsJsonObject("exponentialHistogram")
+                .getAsJsonArray("dataPoints").get(0).getAsJsonObject();
+        assertThat(dataPoint.get("count").getAsLong(), is(0L));
+    }
+
+    private JsonObject receive() throws InterruptedException {
+        JsonObject request = requests.poll(5, TimeUnit.SECONDS);
+        if (request == null) {
+            throw new AssertionError("no request received by the collector");
+        }
+        return request;
+    }
+
+    private JsonObject getMetric(JsonObject request, String name) {
+        JsonObject scopeMetrics = request.getAsJsonArray("resourceMetrics").get(0).getAsJsonObject()
+                .getAsJsonArray("scopeMetrics").get(0).getAsJsonObject();
+        for (JsonElement metric : scopeMetrics.getAsJsonArray("metrics")) {
+            if (name.equals(metric.getAsJsonObject().get("name").getAsString())) {
+                return metric.getAsJsonObject();
+            }
+        }
+        throw new AssertionError("metric " + name + " not found in " + request);
+    }
+}
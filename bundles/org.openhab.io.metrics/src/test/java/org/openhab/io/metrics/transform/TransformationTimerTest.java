@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.transform;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the registration and the lookup of the timed transformation services of the {@link TransformationTimer}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class TransformationTimerTest {
+    private static final String TRANSFORMATION = "openhab.addon.transformation";
+
+    private @Mock @NonNullByDefault({}) BundleContext bundleContext;
+    private @Mock @NonNullByDefault({}) BundleContext otherBundleContext;
+    private @Mock @NonNullByDefault({}) Bundle bundle;
+    private @Mock @NonNullByDefault({}) Bundle otherBundle;
+    private @Mock @NonNullByDefault({}) ServiceReference<TransformationService> reference;
+    private @Mock @NonNullByDefault({}) ServiceRegistration<TransformationService> registration;
+    private @Mock @NonNullByDefault({}) MeterRegistryProvider meterRegistryProvider;
+    private @Mock @NonNullByDefault({}) TransformationService service;
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private @NonNullByDefault({}) TransformationTimer timer;
+
+    @BeforeEach
+    public void setUp() throws TransformationException {
+        registry.add(new SimpleMeterRegistry());
+        when(meterRegistryProvider.getOHMeterRegistry()).thenReturn(registry);
+        when(bundleContext.getBundle()).thenReturn(bundle);
+        when(otherBundleContext.getBundle()).thenReturn(otherBundle);
+        when(bundle.getBundleId()).thenReturn(42L);
+        when(otherBundle.getBundleId()).thenReturn(7L);
+
+        when(reference.getPropertyKeys())
+                .thenReturn(new String[] { Constants.SERVICE_ID, TransformationService.SERVICE_PROPERTY_NAME });
+        when(reference.getProperty(Constants.SERVICE_ID)).thenReturn(12L);
+        when(reference.getProperty(TransformationService.SERVICE_PROPERTY_NAME)).thenReturn("MAP");
+        when(bundleContext.getService(reference)).thenReturn(service);
+        when(bundleContext.registerService(eq(TransformationService.class), any(TransformationService.class),
+                any())).thenReturn(registration);
+        when(service.transform("en.map", "ON")).thenReturn("on");
+
+        timer = new TransformationTimer(bundleContext, meterRegistryProvider);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void transformationsOfTimedServiceAreRecorded() throws TransformationException {
+        timer.addTransformationService(reference);
+
+        ArgumentCaptor<TransformationService> timed = ArgumentCaptor.forClass(TransformationService.class);
+        ArgumentCaptor<Dictionary<String, ?>> properties = ArgumentCaptor.forClass(Dictionary.class);
+        verify(bundleContext).registerService(eq(TransformationService.class), timed.capture(),
+                properties.capture());
+        assertEquals("MAP", properties.getValue().get(TransformationService.SERVICE_PROPERTY_NAME));
+        assertEquals(Boolean.TRUE, properties.getValue().get(TransformationTimer.PROPERTY_TIMED));
+        assertNull(properties.getValue().get(Constants.SERVICE_ID));
+
+        assertEquals("on", timed.getValue().transform("en.map", "ON"));
+        assertEquals(1, registry.get(TRANSFORMATION).tag("addon", "map").timer().count());
+    }
+
+    @Test
+    public void originalServiceIsOnlyVisibleToTimer() {
+        timer.addTransformationService(reference);
+
+        assertEquals(List.of(), find(otherBundleContext, TransformationService.class.getName()));
+        assertEquals(List.of(reference), find(bundleContext, TransformationService.class.getName()));
+        assertEquals(List.of(reference), find(otherBundleContext, "org.openhab.core.config.core.ConfigOptionProvider"));
+    }
+
+    @Test
+    public void removedServiceIsNoLongerTimed() {
+        timer.addTransformationService(reference);
+        timer.removeTransformationService(reference);
+
+        verify(registration).unregister();
+        verify(bundleContext).ungetService(reference);
+        assertNull(registry.find(TRANSFORMATION).timer());
+        assertEquals(List.of(reference), find(otherBundleContext, TransformationService.class.getName()));
+    }
+
+    private Collection<ServiceReference<?>> find(BundleContext context, String name) {
+        Collection<ServiceReference<?>> references = new ArrayList<>(List.of(reference));
+        timer.find(context, name, null, false, references);
+        return references;
+    }
+}
@@ -12,7 +12,6 @@
  */
 package org.openhab.io.openhabcloud.internal;
 
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,9 +35,9 @@ import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -81,6 +80,8 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    private static final byte[] EMPTY_BODY = new byte[0];
+
     /*
      * Logger for this class
      */
@@ -106,6 +107,11 @@ public class CloudClient {
      */
     private final String localBaseUrl;
 
+    /*
+     * This variable holds the maximum size of response content chunks sent to the openHAB Cloud
+     */
+    private final int responseChunkSize;
+
     /*
      * This variable holds instance of Jetty HTTP client to make requests to local openHAB
      */
@@ -163,15 +169,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param responseChunkSize Maximum size of coalesced response content chunks, 0 to send chunks as received
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int responseChunkSize) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.responseChunkSize = responseChunkSize;
         this.jettyClient = httpClient;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
@@ -416,28 +424,26 @@ public class CloudClient {
             // Get JSONObject for request headers
             JSONObject requestHeadersJson = data.getJSONObject("headers");
             logger.debug("Headers: {}", requestHeadersJson.toString());
-            // Get request body
-            String requestBody = data.getString("body");
-            logger.trace("Body {}", requestBody);
+            // Get request body, which is either sent as binary attachment or as string
+            byte[] requestBody = getRequestBody(data);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Body {}", new String(requestBody, StandardCharsets.UTF_8));
+            }
             // Get JSONObject for request query parameters
             JSONObject requestQueryJson = data.getJSONObject("query");
             logger.debug("Query {}", requestQueryJson.toString());
-            // Create URI builder with base request URI of openHAB and path from request
-            String newPath = URIUtil.addPaths(localBaseUrl, requestPath);
+            // Build the request URI from the base URI of openHAB, the path and the query parameters of the request
+            StringBuilder newPath = new StringBuilder(URIUtil.addPaths(localBaseUrl, requestPath)).append('?');
             Iterator<String> queryIterator = requestQueryJson.keys();
-            // Add query parameters to URI builder, if any
-            newPath += "?";
             while (queryIterator.hasNext()) {
                 String queryName = queryIterator.next();
-                newPath += queryName;
-                newPath += "=";
-                newPath += URLEncoder.encode(requestQueryJson.getString(queryName), "UTF-8");
+                newPath.append(queryName).append('=')
+                        .append(URLEncoder.encode(requestQueryJson.getString(queryName), StandardCharsets.UTF_8));
                 if (queryIterator.hasNext()) {
-                    newPath += "&";
+                    newPath.append('&');
                 }
             }
-            // Finally get the future request URI
-            URI requestUri = new URI(newPath);
+            URI requestUri = new URI(newPath.toString());
             // All preparations which are common for different methods are done
             // Now perform the request to openHAB
             // If method is GET
@@ -455,10 +461,11 @@ public class CloudClient {
                 return;
             }
             request.method(method);
-            if (!requestBody.isEmpty()) {
-                request.content(new BytesContentProvider(requestBody.getBytes()));
+            if (requestBody.length > 0) {
+                request.content(new BytesContentProvider(requestBody));
             }
 
+            ResponseContentBuffer responseContent = new ResponseContentBuffer(responseChunkSize);
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
@@ -467,6 +474,7 @@ public class CloudClient {
                     responseJson.put("headers", getJSONHeaders(response.getHeaders()));
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
+                    responseContent.setContentLength(response.getHeaders().get(HttpHeader.CONTENT_LENGTH));
                     socket.emit("responseHeader", responseJson);
                     logger.trace("Sent headers to request {}", requestId);
                     logger.trace("{}", responseJson.toString());
@@ -474,19 +482,11 @@ public class CloudClient {
                     logger.debug("{}", e.getMessage());
                 }
             }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                logger.debug("onResponseContent: {}, content size {}", requestId, content.remaining());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.duplicate()).toString());
                 }
+                responseContent.add(content, body -> sendResponseContent(requestId, body));
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -513,6 +513,7 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                responseContent.flush(body -> sendResponseContent(requestId, body));
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -526,7 +527,30 @@ public class CloudClient {
             // If successfully submitted request to http client, add it to the list of currently
             // running requests to be able to cancel it if needed
             runningRequests.put(requestId, request);
-        } catch (JSONException | IOException | URISyntaxException e) {
+        } catch (JSONException | URISyntaxException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private byte[] getRequestBody(JSONObject data) {
+        Object body = data.opt("body");
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        } else if (body instanceof String string && !string.isEmpty()) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+        return EMPTY_BODY;
+    }
+
+    private void sendResponseContent(int requestId, byte[] body) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            // byte arrays are sent as binary attachments of the Socket.IO message
+            responseJson.put("body", body);
+            socket.emit("responseContentBinary", responseJson);
+            logger.trace("Sent {} bytes of content to request {}", body.length, requestId);
+        } catch (JSONException e) {
             logger.debug("{}", e.getMessage());
         }
     }
@@ -656,9 +680,9 @@ public class CloudClient {
      *
      * @param itemName the name of the item
      * @param itemState updated item state
-     *
+     * @return true if the update was sent, false if there is no connection
      */
-    public void sendItemUpdate(String itemName, String itemState) {
+    public boolean sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -666,12 +690,14 @@ public class CloudClient {
                 itemUpdateMessage.put("itemName", itemName);
                 itemUpdateMessage.put("itemStatus", itemState);
                 socket.emit("itemupdate", itemUpdateMessage);
+                return true;
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
         } else {
             logger.debug("No connection, Item update is not sent");
         }
+        return false;
     }
 
     /**
@@ -15,23 +15,28 @@ package org.openhab.io.openhabcloud.internal;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.id.InstanceUUID;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -55,9 +60,15 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * This class starts the cloud connection service and implements interface to communicate with the cloud.
  *
@@ -75,10 +86,15 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_RESPONSE_CHUNK_SIZE = "responseChunkSize";
+    private static final String CFG_ITEM_UPDATE_WINDOW = "itemUpdateWindow";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
     private static final int DEFAULT_LOCAL_OPENHAB_REQUEST_TIMEOUT = 30000;
+    private static final int DEFAULT_RESPONSE_CHUNK_SIZE = 65536;
+    private static final long DEFAULT_ITEM_UPDATE_WINDOW = 1000;
+    private static final String METRIC_ITEM_UPDATES = "openhab.addon.cloud.item.updates";
     private static final String HTTPCLIENT_NAME = "openhabcloud";
 
     private final Logger logger = LoggerFactory.getLogger(CloudService.class);
@@ -92,6 +108,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private int responseChunkSize = DEFAULT_RESPONSE_CHUNK_SIZE;
+    private final ItemUpdateBuffer itemUpdateBuffer;
+    private final List<Meter> meters = new ArrayList<>();
+    private @Nullable MeterRegistry meterRegistry;
     private int localPort;
 
     @Activate
@@ -105,6 +125,43 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         this.itemRegistry = itemRegistry;
         this.eventPublisher = eventPublisher;
+        this.itemUpdateBuffer = new ItemUpdateBuffer(
+                ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON), this::sendItemUpdate,
+                DEFAULT_ITEM_UPDATE_WINDOW);
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        synchronized (meters) {
+            removeMeters();
+            meters.add(itemUpdateCounter(meterRegistry, "sent", ItemUpdateBuffer::getSentCount));
+            meters.add(itemUpdateCounter(meterRegistry, "merged", ItemUpdateBuffer::getMergedCount));
+            meters.add(itemUpdateCounter(meterRegistry, "dropped", ItemUpdateBuffer::getDroppedCount));
+            this.meterRegistry = meterRegistry;
+        }
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        synchronized (meters) {
+            removeMeters();
+        }
+    }
+
+    private Meter itemUpdateCounter(MeterRegistry meterRegistry, String result,
+            ToDoubleFunction<ItemUpdateBuffer> count) {
+        return FunctionCounter.builder(METRIC_ITEM_UPDATES, itemUpdateBuffer, count)
+                .tags("addon", "openhabcloud", "result", result)
+                .description("Item updates pushed to the openHAB Cloud").register(meterRegistry);
+    }
+
+    private void removeMeters() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            meters.forEach(meterRegistry::remove);
+            this.meterRegistry = null;
+        }
+        meters.clear();
     }
 
     /**
@@ -185,6 +242,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     @Deactivate
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
+        itemUpdateBuffer.dispose();
+        synchronized (meters) {
+            removeMeters();
+        }
         cloudClient.shutdown();
         try {
             httpClient.stop();
@@ -207,6 +268,30 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
+        Object chunkSizeCfg = config.get(CFG_RESPONSE_CHUNK_SIZE);
+        if (chunkSizeCfg != null) {
+            try {
+                responseChunkSize = Math.max(0, new BigDecimal(chunkSizeCfg.toString()).intValue());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid response chunk size '{}', using {}", chunkSizeCfg, DEFAULT_RESPONSE_CHUNK_SIZE);
+                responseChunkSize = DEFAULT_RESPONSE_CHUNK_SIZE;
+            }
+        } else {
+            responseChunkSize = DEFAULT_RESPONSE_CHUNK_SIZE;
+        }
+
+        Object itemUpdateWindowCfg = config.get(CFG_ITEM_UPDATE_WINDOW);
+        long itemUpdateWindow = DEFAULT_ITEM_UPDATE_WINDOW;
+        if (itemUpdateWindowCfg != null) {
+            try {
+                itemUpdateWindow = Math.max(0, new BigDecimal(itemUpdateWindowCfg.toString()).longValue());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update window '{}', using {}", itemUpdateWindowCfg,
+                        DEFAULT_ITEM_UPDATE_WINDOW);
+            }
+        }
+        itemUpdateBuffer.setWindow(itemUpdateWindow);
+
         exposedItems = new HashSet<>();
         Object expCfg = config.get(CFG_EXPOSE);
         if (expCfg instanceof String value) {
@@ -243,7 +328,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, responseChunkSize);
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
@@ -365,10 +450,15 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
         if (supportsUpdates() && exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            itemUpdateBuffer.add(ise.getItemName(), ise.getItemState().toString());
         }
     }
 
+    private boolean sendItemUpdate(String itemName, String itemState) {
+        CloudClient cloudClient = this.cloudClient;
+        return cloudClient != null && cloudClient.sendItemUpdate(itemName, itemState);
+    }
+
     private boolean supportsUpdates() {
         return cloudBaseUrl.contains(CFG_BASE_URL);
     }
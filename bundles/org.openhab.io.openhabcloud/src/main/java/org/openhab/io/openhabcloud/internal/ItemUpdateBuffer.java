@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ItemUpdateBuffer} coalesces the item state updates which are pushed to the openHAB Cloud.
+ *
+ * Updates are collected for the configured window and only the latest state of every item is sent when the window
+ * ends. Updates which are replaced by a newer state within the window are counted as merged, updates which could not
+ * be sent, e.g. because the connection is down, are counted as dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ItemUpdateBuffer {
+    private final ScheduledExecutorService scheduler;
+    private final BiPredicate<String, String> sender;
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private final LongAdder sentUpdates = new LongAdder();
+    private final LongAdder mergedUpdates = new LongAdder();
+    private final LongAdder droppedUpdates = new LongAdder();
+    private long windowMillis;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean disposed;
+
+    /**
+     * @param scheduler the scheduler to send the coalesced updates
+     * @param sender sends an update and returns <code>false</code> if it could not be sent
+     * @param windowMillis the time in milliseconds to collect updates, <code>0</code> to send every update immediately
+     */
+    ItemUpdateBuffer(ScheduledExecutorService scheduler, BiPredicate<String, String> sender, long windowMillis) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Changes the window. Updates which are already collected are sent immediately.
+     */
+    void setWindow(long windowMillis) {
+        synchronized (this) {
+            this.windowMillis = windowMillis;
+        }
+        flush();
+    }
+
+    void add(String itemName, String itemState) {
+        synchronized (this) {
+            if (disposed) {
+                droppedUpdates.increment();
+                return;
+            }
+            if (windowMillis > 0) {
+                if (pendingUpdates.put(itemName, itemState) != null) {
+                    mergedUpdates.increment();
+                }
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        send(itemName, itemState);
+    }
+
+    /**
+     * Sends all collected updates.
+     */
+    void flush() {
+        // concurrent flushes are serialized, so an older state of an item can't be sent after a newer one
+        synchronized (flushLock) {
+            Map<String, String> updates;
+            synchronized (this) {
+                ScheduledFuture<?> flushJob = this.flushJob;
+                if (flushJob != null) {
+                    flushJob.cancel(false);
+                    this.flushJob = null;
+                }
+                if (pendingUpdates.isEmpty()) {
+                    return;
+                }
+                updates = new LinkedHashMap<>(pendingUpdates);
+                pendingUpdates.clear();
+            }
+            updates.forEach(this::send);
+        }
+    }
+
+    /**
+     * Stops sending updates and discards the collected ones. Updates which are added afterwards are dropped.
+     */
+    synchronized void dispose() {
+        disposed = true;
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        droppedUpdates.add(pendingUpdates.size());
+        pendingUpdates.clear();
+    }
+
+    private void send(String itemName, String itemState) {
+        if (sender.test(itemName, itemState)) {
+            sentUpdates.increment();
+        } else {
+            droppedUpdates.increment();
+        }
+    }
+
+    long getSentCount() {
+        return sentUpdates.sum();
+    }
+
+    long getMergedCount() {
+        return mergedUpdates.sum();
+    }
+
+    long getDroppedCount() {
+        return droppedUpdates.sum();
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ResponseContentBuffer} coalesces the content chunks of a proxied response into larger chunks before they
+ * are sent to the openHAB Cloud, so fewer Socket.IO messages are needed for a response.
+ *
+ * Chunks are only coalesced if the length of the response is known. Responses without a content length, like server
+ * sent events or long polling requests, are passed through immediately so they are not delayed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentBuffer {
+    private final int maxChunkSize;
+    private long remaining = -1;
+    private byte @Nullable [] chunk;
+    private int chunkLength;
+
+    /**
+     * @param maxChunkSize the maximum size of a coalesced chunk, <code>0</code> to send all chunks as they are received
+     */
+    ResponseContentBuffer(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * Sets the content length of the response. A missing or invalid length is treated as unknown.
+     *
+     * @param contentLength the value of the Content-Length header or <code>null</code> if the header is missing
+     */
+    void setContentLength(@Nullable String contentLength) {
+        remaining = -1;
+        if (contentLength != null) {
+            try {
+                remaining = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                // pass the content through as it is received
+            }
+        }
+    }
+
+    /**
+     * Adds received content. Every completed chunk is passed to the sink, the content buffer itself is not consumed.
+     */
+    void add(ByteBuffer content, Consumer<byte[]> sink) {
+        ByteBuffer source = content.duplicate();
+        while (source.hasRemaining()) {
+            byte[] chunk = this.chunk;
+            if (chunk == null) {
+                if (maxChunkSize <= 0 || remaining <= 0) {
+                    // unknown length or more content than announced
+                    byte[] data = new byte[source.remaining()];
+                    source.get(data);
+                    sink.accept(data);
+                    return;
+                }
+                // the last chunk is sized to the rest of the response, so complete chunks need not be copied again
+                chunk = new byte[(int) Math.min(maxChunkSize, remaining)];
+                this.chunk = chunk;
+                chunkLength = 0;
+            }
+            int length = Math.min(source.remaining(), chunk.length - chunkLength);
+            source.get(chunk, chunkLength, length);
+            chunkLength += length;
+            remaining = Math.max(0, remaining - length);
+            if (chunkLength == chunk.length) {
+                this.chunk = null;
+                sink.accept(chunk);
+            }
+        }
+    }
+
+    /**
+     * Passes the buffered content to the sink, e.g. when the response is complete.
+     */
+    void flush(Consumer<byte[]> sink) {
+        byte[] chunk = this.chunk;
+        if (chunk != null) {
+            this.chunk = null;
+            if (chunkLength > 0) {
+                sink.accept(chunkLength == chunk.length ? chunk : Arrays.copyOf(chunk, chunkLength));
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests how the {@link ItemUpdateBuffer} coalesces item state updates.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ItemUpdateBufferTest {
+
+    private static final long WINDOW = 500;
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> flushJob;
+
+    private final List<String> sent = new ArrayList<>();
+    private boolean connected = true;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(flushJob).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void updatesOfSameItemAreMerged() {
+        ItemUpdateBuffer buffer = createBuffer(WINDOW);
+
+        buffer.add("Temperature", "20");
+        buffer.add("Humidity", "50");
+        buffer.add("Temperature", "21");
+        buffer.add("Temperature", "22");
+
+        assertEquals(List.of(), sent);
+        assertEquals(2, buffer.getMergedCount());
+        // a single flush is scheduled for the window
+        verify(scheduler).schedule(any(Runnable.class), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void latestStatesAreSentWhenWindowEnds() {
+        ItemUpdateBuffer buffer = createBuffer(WINDOW);
+        buffer.add("Temperature", "20");
+        buffer.add("Humidity", "50");
+        buffer.add("Temperature", "21");
+
+        scheduledFlush().run();
+
+        assertEquals(List.of("Temperature=21", "Humidity=50"), sent);
+        assertEquals(2, buffer.getSentCount());
+
+        // the next update starts a new window
+        buffer.add("Temperature", "22");
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void updatesAreSentImmediatelyWithoutWindow() {
+        ItemUpdateBuffer buffer = createBuffer(0);
+
+        buffer.add("Temperature", "20");
+        buffer.add("Temperature", "21");
+
+        assertEquals(List.of("Temperature=20", "Temperature=21"), sent);
+        assertEquals(0, buffer.getMergedCount());
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void disablingWindowSendsPendingUpdates() {
+        ItemUpdateBuffer buffer = createBuffer(WINDOW);
+        buffer.add("Temperature", "20");
+
+        buffer.setWindow(0);
+
+        assertEquals(List.of("Temperature=20"), sent);
+        verify(flushJob).cancel(false);
+
+        buffer.add("Temperature", "21");
+        assertEquals(List.of("Temperature=20", "Temperature=21"), sent);
+    }
+
+    @Test
+    public void updatesAreDroppedWhileDisconnected() {
+        ItemUpdateBuffer buffer = createBuffer(WINDOW);
+        connected = false;
+        buffer.add("Temperature", "20");
+        buffer.add("Humidity", "50");
+
+        scheduledFlush().run();
+
+        assertEquals(2, buffer.getDroppedCount());
+        assertEquals(0, buffer.getSentCount());
+    }
+
+    @Test
+    public void disposeDropsPendingAndLaterUpdates() {
+        ItemUpdateBuffer buffer = createBuffer(WINDOW);
+        buffer.add("Temperature", "20");
+
+        buffer.dispose();
+        buffer.add("Temperature", "21");
+        buffer.setWindow(0);
+        buffer.add("Temperature", "22");
+
+        assertEquals(List.of(), sent);
+        assertEquals(3, buffer.getDroppedCount());
+        verify(flushJob).cancel(false);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private ItemUpdateBuffer createBuffer(long window) {
+        return new ItemUpdateBuffer(scheduler, (itemName, itemState) -> {
+            if (connected) {
+                sent.add(itemName + "=" + itemState);
+            }
+            return connected;
+        }, window);
+    }
+
+    private Runnable scheduledFlush() {
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(flush.capture(), eq(WINDOW), eq(TimeUnit.MILLISECONDS));
+        return flush.getValue();
+    }
+}
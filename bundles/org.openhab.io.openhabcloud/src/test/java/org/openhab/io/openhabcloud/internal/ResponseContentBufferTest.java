@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests how the {@link ResponseContentBuffer} coalesces the content of proxied responses.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseContentBufferTest {
+
+    private final List<String> sent = new ArrayList<>();
+
+    @Test
+    public void contentOfKnownLengthIsCoalesced() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength("10");
+
+        add(buffer, "ab");
+        add(buffer, "cdefg");
+        add(buffer, "hij");
+        buffer.flush(this::send);
+
+        assertEquals(List.of("abcd", "efgh", "ij"), sent);
+    }
+
+    @Test
+    public void contentOfUnknownLengthIsPassedThrough() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength(null);
+
+        add(buffer, "ab");
+        add(buffer, "cdefg");
+        buffer.flush(this::send);
+
+        assertEquals(List.of("ab", "cdefg"), sent);
+    }
+
+    @Test
+    public void invalidContentLengthIsTreatedAsUnknown() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength("10, 10");
+
+        add(buffer, "ab");
+
+        assertEquals(List.of("ab"), sent);
+    }
+
+    @Test
+    public void contentBeyondContentLengthIsPassedThrough() {
+        // a decoded gzip response is longer than its Content-Length
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength("6");
+
+        add(buffer, "abcdefgh");
+        add(buffer, "ij");
+        buffer.flush(this::send);
+
+        assertEquals(List.of("abcd", "ef", "gh", "ij"), sent);
+    }
+
+    @Test
+    public void shortContentIsSentOnFlush() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength("10");
+
+        add(buffer, "abcdef");
+        assertEquals(List.of("abcd"), sent);
+        buffer.flush(this::send);
+        buffer.flush(this::send);
+
+        assertEquals(List.of("abcd", "ef"), sent);
+    }
+
+    @Test
+    public void zeroChunkSizeDisablesCoalescing() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(0);
+        buffer.setContentLength("10");
+
+        add(buffer, "ab");
+        add(buffer, "cdefghij");
+        buffer.flush(this::send);
+
+        assertEquals(List.of("ab", "cdefghij"), sent);
+    }
+
+    @Test
+    public void contentBufferIsNotConsumed() {
+        ResponseContentBuffer buffer = new ResponseContentBuffer(4);
+        buffer.setContentLength("2");
+        ByteBuffer content = ByteBuffer.wrap("ab".getBytes(StandardCharsets.US_ASCII));
+
+        buffer.add(content, this::send);
+
+        assertEquals(2, content.remaining());
+        assertEquals(List.of("ab"), sent);
+    }
+
+    private void add(ResponseContentBuffer buffer, String content) {
+        buffer.add(ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII)), this::send);
+    }
+
+    private void send(byte[] chunk) {
+        sent.add(new String(chunk, StandardCharsets.US_ASCII));
+    }
+}
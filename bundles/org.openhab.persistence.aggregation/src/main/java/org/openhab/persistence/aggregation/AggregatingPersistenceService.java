@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.aggregation;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.QueryablePersistenceService;
+
+/**
+ * A {@link QueryablePersistenceService} which can aggregate the values per time bucket in the database, so that only
+ * one value per bucket is transferred, e.g. for charts over long time ranges.
+ *
+ * Persistence services which support this register themselves under this interface as well, so it can be looked up
+ * from the service registry, filtered by the service id.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface AggregatingPersistenceService extends QueryablePersistenceService {
+
+    /**
+     * Queries values aggregated per time bucket.
+     *
+     * @param filter the filter to apply to the query, page size and page number are ignored
+     * @param bucket the length of the time buckets, at least one second
+     * @param aggregation the function applied to the values of each bucket
+     * @return one item per bucket, the time is the start of the bucket
+     */
+    Iterable<HistoricItem> queryAggregated(FilterCriteria filter, Duration bucket, Aggregation aggregation);
+}
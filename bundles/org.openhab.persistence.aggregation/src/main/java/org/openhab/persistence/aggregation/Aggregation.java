@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.aggregation;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.RollershutterItem;
+
+/**
+ * Aggregation functions which are applied per time bucket by the database.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum Aggregation {
+    MIN,
+    MAX,
+    AVG,
+    LAST;
+
+    /**
+     * Checks if the function can be applied to the values of the given item. Only {@link #LAST} is supported for
+     * non-numeric items.
+     */
+    public boolean isApplicableTo(Item item) {
+        return this == LAST || item instanceof NumberItem || item instanceof DimmerItem
+                || item instanceof RollershutterItem;
+    }
+}
@@ -14,6 +14,7 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -36,6 +37,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemFactory;
 import org.openhab.core.items.ItemRegistry;
@@ -49,6 +52,9 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.io.metrics.api.PersistenceMetrics;
+import org.openhab.persistence.aggregation.AggregatingPersistenceService;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
@@ -57,6 +63,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.LazyQueryResult;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -89,11 +96,11 @@ import org.slf4j.LoggerFactory;
  *         branch from Dominik Vorreiter
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.influxdb", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        AggregatingPersistenceService.class }, configurationPid = "org.openhab.influxdb", //
         property = Constants.SERVICE_PID + "=org.openhab.influxdb")
 @ConfigurableService(category = "persistence", label = "InfluxDB Persistence Service", description_uri = InfluxDBPersistenceService.CONFIG_URI)
-public class InfluxDBPersistenceService implements ModifiablePersistenceService {
+public class InfluxDBPersistenceService implements ModifiablePersistenceService, AggregatingPersistenceService {
     public static final String SERVICE_NAME = "influxdb";
 
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
@@ -112,6 +119,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     // storage
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_NAME, pointsQueue::size);
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -163,6 +171,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         logger.info("InfluxDB persistence service stopped.");
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistryProvider(meterRegistryProvider);
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.unsetMeterRegistryProvider(meterRegistryProvider);
+    }
+
     @Override
     public String getId() {
         return SERVICE_NAME;
@@ -244,9 +261,36 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 return List.of();
             }
 
-            List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
-                    configuration.getRetentionPolicy());
-            return results.stream().map(this::mapRowToHistoricItem).collect(Collectors.toList());
+            // the query is executed again for every iteration, rows are converted while they are read
+            String retentionPolicy = configuration.getRetentionPolicy();
+            return metrics.recordQuery(new LazyQueryResult<>(
+                    () -> influxDBRepository.query(filter, retentionPolicy).map(this::mapRowToHistoricItem)));
+        } else {
+            logger.debug("Query for persisted data ignored, InfluxDB is not connected");
+            return List.of();
+        }
+    }
+
+    @Override
+    public Iterable<HistoricItem> queryAggregated(FilterCriteria filter, Duration window, Aggregation aggregation) {
+        if (serviceActivated && checkConnection()) {
+            String itemName = filter.getItemName();
+            if (itemName == null) {
+                logger.warn("Item name is missing in filter {} when querying data.", filter);
+                return List.of();
+            }
+            Item item = itemRegistry.get(itemName);
+            if (item instanceof GroupItem groupItem) {
+                item = groupItem.getBaseItem();
+            }
+            if (item != null && !aggregation.isApplicableTo(item)) {
+                logger.warn("Aggregation {} is not supported for item '{}' of type {}", aggregation, itemName,
+                        item.getType());
+                return List.of();
+            }
+            String retentionPolicy = configuration.getRetentionPolicy();
+            return metrics.recordQuery(new LazyQueryResult<>(() -> influxDBRepository
+                    .queryAggregated(filter, retentionPolicy, window, aggregation).map(this::mapRowToHistoricItem)));
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
             return List.of();
@@ -283,7 +327,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (!pointsQueue.isEmpty() && checkConnection()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
+            long startNanos = System.nanoTime();
+            boolean written = influxDBRepository.write(points);
+            metrics.recordStore(startNanos);
+            if (!written) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
                 pointsQueue.addAll(points);
                 influxDBRepository.disconnect();
@@ -12,8 +12,11 @@
  */
 package org.openhab.persistence.influxdb.internal;
 
+import java.time.Duration;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.aggregation.Aggregation;
 
 /**
  * Creates InfluxDB query sentence given an OpenHab persistence {@link FilterCriteria}
@@ -31,6 +34,18 @@ public interface FilterCriteriaQueryCreator {
      */
     String createQuery(FilterCriteria criteria, String retentionPolicy);
 
+    /**
+     * Create query from {@link FilterCriteria} which returns one value per time window
+     *
+     * @param criteria Criteria to create query from, page size and page number are ignored
+     * @param retentionPolicy Name of the retentionPolicy/bucket to use in query
+     * @param window Length of the time windows
+     * @param aggregation Function applied to the values of each window
+     * @return Created query as a String
+     */
+    String createAggregationQuery(FilterCriteria criteria, String retentionPolicy, Duration window,
+            Aggregation aggregation);
+
     default String getOperationSymbol(FilterCriteria.Operator operator, InfluxDBVersion version) {
         return switch (operator) {
             case EQ -> "=";
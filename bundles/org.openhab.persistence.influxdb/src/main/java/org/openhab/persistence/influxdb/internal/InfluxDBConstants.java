@@ -33,4 +33,7 @@ public class InfluxDBConstants {
     public static final String TAG_TYPE_NAME = "type";
     public static final String TAG_LABEL_NAME = "label";
     public static final String FIELD_MEASUREMENT_NAME = "_measurement";
+
+    public static final int QUERY_CHUNK_SIZE = 1000;
+    public static final long QUERY_TIMEOUT_MILLIS = 60000;
 }
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Thrown while a query result is read if the query failed before all rows were received
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBQueryException extends RuntimeException {
+    private static final long serialVersionUID = 2738161953404524163L;
+
+    public InfluxDBQueryException(String message) {
+        super(message);
+    }
+
+    public InfluxDBQueryException(String message, @Nullable Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -12,12 +12,15 @@
  */
 package org.openhab.persistence.influxdb.internal;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.aggregation.Aggregation;
 
 /**
  * Manages InfluxDB server interaction maintaining client connection
@@ -62,11 +65,24 @@ public interface InfluxDBRepository {
     /**
      * Executes Flux query
      *
+     * Rows are read in chunks while the returned stream is consumed, so the stream can only be consumed once.
+     *
      * @param filter the query filter
      * @return Query results
      * 
      */
-    List<InfluxRow> query(FilterCriteria filter, String retentionPolicy);
+    Stream<InfluxRow> query(FilterCriteria filter, String retentionPolicy);
+
+    /**
+     * Executes a query which returns one row per time window, aggregated by the server
+     *
+     * @param filter the query filter, page size and page number are ignored
+     * @param window length of the time windows
+     * @param aggregation function applied to the values of each window
+     * @return Query results
+     */
+    Stream<InfluxRow> queryAggregated(FilterCriteria filter, String retentionPolicy, Duration window,
+            Aggregation aggregation);
 
     /**
      * Write points to database
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An {@link Iterable} over a streamed query result which does not keep the rows it has read.
+ *
+ * Every call to {@link #iterator()} executes the query again and reads the rows while they are iterated, so memory use
+ * does not depend on the size of the result. The stream is closed as soon as its last row was read or reading it
+ * failed. An iterator which is not read to its end holds the query no longer than the hand-over timeout of the
+ * {@link StreamingQueryResult}, which then cancels it.
+ *
+ * @param <T> the type of the rows
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LazyQueryResult<T> implements Iterable<T> {
+    private final Supplier<Stream<T>> query;
+
+    public LazyQueryResult(Supplier<Stream<T>> query) {
+        this.query = query;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private @Nullable Stream<T> stream;
+            private @Nullable Iterator<T> source;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (done) {
+                    return false;
+                }
+                Iterator<T> source = this.source;
+                if (source == null) {
+                    Stream<T> stream = query.get();
+                    this.stream = stream;
+                    source = stream.iterator();
+                    this.source = source;
+                }
+                try {
+                    if (source.hasNext()) {
+                        return true;
+                    }
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+                close();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Iterator<T> source = this.source;
+                if (source == null) {
+                    throw new NoSuchElementException();
+                }
+                return source.next();
+            }
+
+            private void close() {
+                done = true;
+                source = null;
+                Stream<T> stream = this.stream;
+                if (stream != null) {
+                    this.stream = null;
+                    stream.close();
+                }
+            }
+        };
+    }
+}
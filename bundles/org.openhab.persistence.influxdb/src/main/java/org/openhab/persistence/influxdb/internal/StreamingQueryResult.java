@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.influxdb.internal.InfluxDBRepository.InfluxRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands over rows from the asynchronous query callbacks of the InfluxDB clients to a lazily consumed {@link Stream}.
+ *
+ * Rows are passed through a bounded queue, so the client's reader thread waits while the consumer is behind and only
+ * a few chunks are held in memory. If the consumer stops reading, the producer gives up after the timeout and the
+ * query is cancelled. If the query fails, reading the stream throws an {@link InfluxDBQueryException} instead of
+ * ending early, so that a partial result is not mistaken for the complete history.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResult {
+    private static final InfluxRow END_OF_RESULT = new InfluxRow(Instant.EPOCH, "", "");
+
+    private final Logger logger = LoggerFactory.getLogger(StreamingQueryResult.class);
+    private final BlockingQueue<InfluxRow> queue;
+    private final long timeoutMillis;
+    private volatile boolean closed;
+    private volatile @Nullable InfluxDBQueryException failure;
+    private volatile @Nullable Runnable cancelAction;
+
+    public StreamingQueryResult(int capacity, long timeoutMillis) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Sets the action which cancels the running query. It is called when the result is closed before all rows were
+     * read.
+     */
+    public void setCancelAction(Runnable cancelAction) {
+        this.cancelAction = cancelAction;
+        if (closed) {
+            cancelAction.run();
+        }
+    }
+
+    /**
+     * Adds a row, waiting until the consumer has taken enough rows from the queue.
+     *
+     * @param row the row
+     * @return <code>false</code> if the consumer has gone and the query should be cancelled
+     */
+    public boolean publish(InfluxRow row) {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (queue.offer(row, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            logger.debug("Query result was not consumed within {} ms, cancelling query", timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * Marks the end of the result. Must be called when the query completed.
+     */
+    public void complete() {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!queue.offer(END_OF_RESULT, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+        }
+    }
+
+    /**
+     * Marks the end of a result which is incomplete because the query failed. Must be called instead of
+     * {@link #complete()} when the query failed.
+     */
+    public void fail(InfluxDBQueryException failure) {
+        this.failure = failure;
+        complete();
+    }
+
+    /**
+     * Stops reading the result and cancels the query if it is still running.
+     */
+    public void close() {
+        closed = true;
+        queue.clear();
+        Runnable cancelAction = this.cancelAction;
+        if (cancelAction != null) {
+            cancelAction.run();
+        }
+    }
+
+    public Stream<InfluxRow> stream() {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(new RowIterator(),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    private class RowIterator implements Iterator<InfluxRow> {
+        private @Nullable InfluxRow next;
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    InfluxRow row = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+                    if (row == null) {
+                        close();
+                        done = true;
+                        throw new InfluxDBQueryException("No query result received within " + timeoutMillis + " ms");
+                    } else if (row == END_OF_RESULT) {
+                        done = true;
+                        InfluxDBQueryException failure = StreamingQueryResult.this.failure;
+                        if (failure != null) {
+                            throw failure;
+                        }
+                    } else {
+                        next = row;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    done = true;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public InfluxRow next() {
+            InfluxRow row = next;
+            if (row == null && hasNext()) {
+                row = next;
+            }
+            if (row == null) {
+                throw new NoSuchElementException();
+            }
+            next = null;
+            return row;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import static org.influxdb.querybuilder.BuiltQuery.QueryBuilder.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils.stateToObject;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,6 +28,7 @@ import org.influxdb.querybuilder.Where;
 import org.influxdb.querybuilder.clauses.SimpleClause;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.types.State;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
@@ -59,23 +61,7 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
                 .column("\"" + TAG_ITEM_NAME + "\"::tag")
                 .fromRaw(null, fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
 
-        Where where = select.where();
-
-        if (itemName != null && !tableName.equals(itemName)) {
-            where.and(BuiltQuery.QueryBuilder.eq(TAG_ITEM_NAME, itemName));
-        }
-        if (criteria.getBeginDate() != null) {
-            where.and(BuiltQuery.QueryBuilder.gte(COLUMN_TIME_NAME_V1, criteria.getBeginDate().toInstant().toString()));
-        }
-        if (criteria.getEndDate() != null) {
-            where.and(BuiltQuery.QueryBuilder.lte(COLUMN_TIME_NAME_V1, criteria.getEndDate().toInstant().toString()));
-        }
-
-        State filterState = criteria.getState();
-        if (filterState != null && criteria.getOperator() != null) {
-            where.and(new SimpleClause(COLUMN_VALUE_NAME_V1,
-                    getOperationSymbol(criteria.getOperator(), InfluxDBVersion.V1), stateToObject(filterState)));
-        }
+        addWhereClauses(select.where(), criteria, itemName, tableName);
 
         if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
             select = select.orderBy(desc());
@@ -94,6 +80,50 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
         return ((Query) select).getCommand();
     }
 
+    @Override
+    public String createAggregationQuery(FilterCriteria criteria, String retentionPolicy, Duration window,
+            Aggregation aggregation) {
+        final String itemName = Objects.requireNonNull(criteria.getItemName()); // we checked non-null before
+        final String tableName = getTableName(itemName);
+        String function = switch (aggregation) {
+            case MIN -> "min";
+            case MAX -> "max";
+            case AVG -> "mean";
+            case LAST -> "last";
+        };
+
+        Select select = select().function(function, "\"" + COLUMN_VALUE_NAME_V1 + "\"").as(COLUMN_VALUE_NAME_V1)
+                .fromRaw(null, fullQualifiedTableName(retentionPolicy, tableName, true));
+        addWhereClauses(select.where(), criteria, itemName, tableName);
+        select = select.groupBy(time(Math.max(window.toSeconds(), 1), "s")).fill("none");
+
+        if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
+            select = select.orderBy(desc());
+        } else if (criteria.getOrdering() == FilterCriteria.Ordering.ASCENDING) {
+            select = select.orderBy(asc());
+        }
+
+        return ((Query) select).getCommand();
+    }
+
+    private void addWhereClauses(Where where, FilterCriteria criteria, String itemName, String tableName) {
+        if (!tableName.equals(itemName)) {
+            where.and(BuiltQuery.QueryBuilder.eq(TAG_ITEM_NAME, itemName));
+        }
+        if (criteria.getBeginDate() != null) {
+            where.and(BuiltQuery.QueryBuilder.gte(COLUMN_TIME_NAME_V1, criteria.getBeginDate().toInstant().toString()));
+        }
+        if (criteria.getEndDate() != null) {
+            where.and(BuiltQuery.QueryBuilder.lte(COLUMN_TIME_NAME_V1, criteria.getEndDate().toInstant().toString()));
+        }
+
+        State filterState = criteria.getState();
+        if (filterState != null && criteria.getOperator() != null) {
+            where.and(new SimpleClause(COLUMN_VALUE_NAME_V1,
+                    getOperationSymbol(criteria.getOperator(), InfluxDBVersion.V1), stateToObject(filterState)));
+        }
+    }
+
     private String getTableName(@Nullable String itemName) {
         if (itemName == null) {
             return "/.*/";
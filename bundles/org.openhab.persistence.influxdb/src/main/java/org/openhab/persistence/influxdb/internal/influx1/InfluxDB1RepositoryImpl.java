@@ -15,16 +15,19 @@ package org.openhab.persistence.influxdb.internal.influx1;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.COLUMN_TIME_NAME_V1;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.COLUMN_VALUE_NAME_V1;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.QUERY_CHUNK_SIZE;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.QUERY_TIMEOUT_MILLIS;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -37,11 +40,14 @@ import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.openhab.persistence.influxdb.internal.InfluxDBQueryException;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.StreamingQueryResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -168,26 +174,58 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy) {
+    public Stream<InfluxRow> query(FilterCriteria filter, String retentionPolicy) {
+        return query(filter, queryCreator.createQuery(filter, retentionPolicy), null);
+    }
+
+    @Override
+    public Stream<InfluxRow> queryAggregated(FilterCriteria filter, String retentionPolicy, Duration window,
+            Aggregation aggregation) {
+        // aggregated series do not contain the item tag
+        return query(filter, queryCreator.createAggregationQuery(filter, retentionPolicy, window, aggregation),
+                filter.getItemName());
+    }
+
+    private Stream<InfluxRow> query(FilterCriteria filter, String query, @Nullable String itemName) {
         try {
             final InfluxDB currentClient = client;
             if (currentClient != null) {
-                String query = queryCreator.createQuery(filter, retentionPolicy);
                 logger.trace("Query {}", query);
                 Query parsedQuery = new Query(query, configuration.getDatabaseName());
-                List<QueryResult.Result> results = currentClient.query(parsedQuery, TimeUnit.MILLISECONDS).getResults();
-                return convertClientResultToRepository(results);
+                StreamingQueryResult result = new StreamingQueryResult(QUERY_CHUNK_SIZE, QUERY_TIMEOUT_MILLIS);
+                currentClient.query(parsedQuery, QUERY_CHUNK_SIZE, (cancellable, chunk) -> {
+                    result.setCancelAction(cancellable::cancel);
+                    if (!publishChunk(chunk, itemName, result)) {
+                        cancellable.cancel();
+                        result.complete();
+                    }
+                }, result::complete, e -> {
+                    logger.warn("Failed to execute query '{}': {}", filter, e.getMessage());
+                    result.fail(new InfluxDBQueryException("Failed to execute query", e));
+                });
+                return result.stream();
             } else {
                 throw new InfluxException("API not present");
             }
         } catch (InfluxException | InfluxDBException e) {
             logger.warn("Failed to execute query '{}': {}", filter, e.getMessage());
-            return List.of();
+            return Stream.empty();
         }
     }
 
-    private List<InfluxRow> convertClientResultToRepository(List<QueryResult.Result> results) {
-        List<InfluxRow> rows = new ArrayList<>();
+    private boolean publishChunk(QueryResult chunk, @Nullable String itemNameOverride, StreamingQueryResult rows) {
+        String error = chunk.getError();
+        if (error != null) {
+            if (!"DONE".equals(error)) {
+                logger.warn("{}", error);
+                rows.fail(new InfluxDBQueryException(error));
+            }
+            return true;
+        }
+        List<QueryResult.Result> results = chunk.getResults();
+        if (results == null) {
+            return true;
+        }
         for (QueryResult.Result result : results) {
             List<QueryResult.Series> allSeries = result.getSeries();
             if (result.getError() != null) {
@@ -199,7 +237,7 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
             } else {
                 for (QueryResult.Series series : allSeries) {
                     logger.trace("series {}", series);
-                    String defaultItemName = series.getName();
+                    String defaultItemName = itemNameOverride != null ? itemNameOverride : series.getName();
                     List<List<Object>> allValues = series.getValues();
                     if (allValues == null) {
                         logger.debug("query returned no values");
@@ -211,24 +249,36 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                             int valueColumn = columns.indexOf(COLUMN_VALUE_NAME_V1);
                             int itemNameColumn = columns.indexOf(TAG_ITEM_NAME);
                             if (valueColumn == -1 || timestampColumn == -1) {
-                                throw new IllegalStateException("missing column");
+                                logger.warn("query returned no time or value column: {}", columns);
+                                return false;
                             }
                             for (List<Object> valueObject : allValues) {
-                                Double rawTime = (Double) valueObject.get(timestampColumn);
-                                Instant time = Instant.ofEpochMilli(rawTime.longValue());
+                                Instant time = parseTime(valueObject.get(timestampColumn));
                                 Object value = valueObject.get(valueColumn);
                                 String itemName = itemNameColumn == -1 ? defaultItemName
                                         : Objects.requireNonNullElse((String) valueObject.get(itemNameColumn),
                                                 defaultItemName);
                                 logger.trace("adding historic item {}: time {} value {}", itemName, time, value);
-                                rows.add(new InfluxRow(time, itemName, value));
+                                if (!rows.publish(new InfluxRow(time, itemName, value))) {
+                                    return false;
+                                }
                             }
                         }
                     }
                 }
             }
         }
-        return rows;
+        return true;
+    }
+
+    /**
+     * Chunked queries can not request epoch timestamps, so the time is returned in RFC3339 format.
+     */
+    private Instant parseTime(Object rawTime) {
+        if (rawTime instanceof Number epochMillis) {
+            return Instant.ofEpochMilli(epochMillis.longValue());
+        }
+        return Instant.parse(rawTime.toString());
     }
 
     @Override
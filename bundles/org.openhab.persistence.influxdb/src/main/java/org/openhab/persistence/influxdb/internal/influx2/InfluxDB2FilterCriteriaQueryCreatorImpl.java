@@ -17,12 +17,14 @@ import static com.influxdb.query.dsl.functions.restriction.Restrictions.tag;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils.stateToObject;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.types.State;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
@@ -50,6 +52,30 @@ public class InfluxDB2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
 
     @Override
     public String createQuery(FilterCriteria criteria, String retentionPolicy) {
+        Flux flux = createFilteredQuery(criteria, retentionPolicy);
+        flux = applyOrderingAndPageSize(criteria, flux);
+        return flux.toString();
+    }
+
+    @Override
+    public String createAggregationQuery(FilterCriteria criteria, String retentionPolicy, Duration window,
+            Aggregation aggregation) {
+        String function = switch (aggregation) {
+            case MIN -> "min";
+            case MAX -> "max";
+            case AVG -> "mean";
+            case LAST -> "last";
+        };
+        Flux flux = createFilteredQuery(criteria, retentionPolicy);
+        flux = flux.expression("aggregateWindow(every: " + Math.max(window.toSeconds(), 1) + "s, fn: " + function
+                + ", createEmpty: false, timeSrc: \"_start\")");
+        if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
+            flux = flux.sort().withDesc(true).withColumns(new String[] { COLUMN_TIME_NAME_V2 });
+        }
+        return flux.toString();
+    }
+
+    private Flux createFilteredQuery(FilterCriteria criteria, String retentionPolicy) {
         Flux flux = Flux.from(retentionPolicy);
 
         RangeFlux range = flux.range();
@@ -84,10 +110,7 @@ public class InfluxDB2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
                             getOperationSymbol(criteria.getOperator(), InfluxDBVersion.V2)));
             flux = flux.filter(restrictions);
         }
-
-        flux = applyOrderingAndPageSize(criteria, flux);
-
-        return flux.toString();
+        return flux;
     }
 
     private Flux applyOrderingAndPageSize(FilterCriteria criteria, Flux flux) {
@@ -12,10 +12,14 @@
  */
 package org.openhab.persistence.influxdb.internal;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -35,6 +39,7 @@ import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.influxdb.InfluxDBPersistenceService;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1FilterCriteriaQueryCreatorImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2FilterCriteriaQueryCreatorImpl;
@@ -192,6 +197,27 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
         return criteria;
     }
 
+    @Test
+    public void testAggregationQuery() {
+        FilterCriteria criteria = createBaseCriteria();
+
+        String queryV1 = instanceV1.createAggregationQuery(criteria, RETENTION_POLICY, Duration.ofMinutes(5),
+                Aggregation.AVG);
+        assertThat(queryV1, containsString("mean("));
+        assertThat(queryV1, containsString("GROUP BY time(300s)"));
+
+        String queryV2 = instanceV2.createAggregationQuery(criteria, RETENTION_POLICY, Duration.ofMinutes(5),
+                Aggregation.AVG);
+        assertThat(queryV2, startsWith("""
+                from(bucket:"origin")
+                \t|> range(start:-100y, stop:100y)
+                \t|> filter(fn: (r) => r["_measurement"] == "sampleItem")
+                \t|> keep(columns:["_measurement", "_time", "_value"])"""));
+        assertThat(queryV2,
+                containsString("aggregateWindow(every: 300s, fn: mean, createEmpty: false, timeSrc: \"_start\")"));
+        assertThat(queryV2, endsWith("|> sort(desc:true, columns:[\"_time\"])"));
+    }
+
     @Test
     public void testMeasurementNameFromMetadata() {
         FilterCriteria criteria = createBaseCriteria();
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LazyQueryResultTest {
+
+    private static List<Integer> toList(Iterable<Integer> iterable) {
+        List<Integer> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    @Test
+    public void queryIsExecutedForEveryIteration() {
+        AtomicInteger queries = new AtomicInteger();
+        LazyQueryResult<Integer> result = new LazyQueryResult<>(() -> {
+            queries.incrementAndGet();
+            return Stream.of(1, 2, 3);
+        });
+
+        assertThat(queries.get(), is(0));
+        assertThat(toList(result), contains(1, 2, 3));
+        assertThat(toList(result), contains(1, 2, 3));
+        assertThat(queries.get(), is(2));
+    }
+
+    @Test
+    public void rowsAreReadWhileTheyAreIterated() {
+        AtomicInteger read = new AtomicInteger();
+        LazyQueryResult<Integer> result = new LazyQueryResult<>(
+                () -> Stream.iterate(1, i -> i + 1).peek(i -> read.incrementAndGet()));
+
+        Iterator<Integer> iterator = result.iterator();
+        assertThat(iterator.next(), is(1));
+        assertThat(iterator.next(), is(2));
+        assertThat(read.get(), is(2));
+    }
+
+    @Test
+    public void streamIsClosedWhenAllRowsWereRead() {
+        AtomicBoolean closed = new AtomicBoolean();
+        LazyQueryResult<Integer> result = new LazyQueryResult<>(() -> Stream.of(1, 2).onClose(() -> closed.set(true)));
+
+        Iterator<Integer> iterator = result.iterator();
+        iterator.next();
+        iterator.next();
+        assertThat(closed.get(), is(false));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(closed.get(), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void failedQueryIsPassedToConsumerAndClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        LazyQueryResult<Integer> result = new LazyQueryResult<>(() -> Stream.of(1, 2).map(i -> {
+            if (i == 2) {
+                throw new InfluxDBQueryException("connection lost");
+            }
+            return i;
+        }).onClose(() -> closed.set(true)));
+
+        Iterator<Integer> iterator = result.iterator();
+        assertThat(iterator.next(), is(1));
+        assertThrows(InfluxDBQueryException.class, iterator::hasNext);
+        assertThat(closed.get(), is(true));
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.influxdb.internal.InfluxDBRepository.InfluxRow;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResultTest {
+
+    @Test
+    public void rowsPublishedByProducerAreStreamedInOrder() throws InterruptedException {
+        StreamingQueryResult result = new StreamingQueryResult(2, 1000);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                result.publish(new InfluxRow(Instant.ofEpochMilli(i), "item", i));
+            }
+            result.complete();
+        });
+        producer.start();
+
+        List<Object> values = result.stream().map(InfluxRow::value).toList();
+        producer.join();
+
+        assertThat(values, contains(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void completedResultWithoutRowsIsEmpty() {
+        StreamingQueryResult result = new StreamingQueryResult(2, 1000);
+        result.complete();
+
+        assertThat(result.stream().toList(), is(empty()));
+    }
+
+    @Test
+    public void closingStreamCancelsQueryAndRejectsFurtherRows() {
+        StreamingQueryResult result = new StreamingQueryResult(2, 1000);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        result.setCancelAction(() -> cancelled.set(true));
+        result.publish(new InfluxRow(Instant.EPOCH, "item", 1));
+
+        Iterator<InfluxRow> iterator = result.stream().iterator();
+        assertThat(iterator.next().value(), is(1));
+        result.close();
+
+        assertThat(cancelled.get(), is(true));
+        assertThat(result.publish(new InfluxRow(Instant.EPOCH, "item", 2)), is(false));
+    }
+
+    @Test
+    public void producerGivesUpWhenRowsAreNotConsumed() {
+        StreamingQueryResult result = new StreamingQueryResult(1, 50);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        result.setCancelAction(() -> cancelled.set(true));
+
+        assertThat(result.publish(new InfluxRow(Instant.EPOCH, "item", 1)), is(true));
+        assertThat(result.publish(new InfluxRow(Instant.EPOCH, "item", 2)), is(false));
+        assertThat(cancelled.get(), is(true));
+    }
+
+    @Test
+    public void failedQueryIsNotMistakenForCompleteResult() {
+        StreamingQueryResult result = new StreamingQueryResult(2, 1000);
+        result.publish(new InfluxRow(Instant.EPOCH, "item", 1));
+        result.fail(new InfluxDBQueryException("connection lost"));
+
+        Iterator<InfluxRow> iterator = result.stream().iterator();
+        assertThat(iterator.next().value(), is(1));
+        assertThrows(InfluxDBQueryException.class, iterator::hasNext);
+    }
+
+    @Test
+    public void missingRowsAreNotMistakenForCompleteResult() {
+        StreamingQueryResult result = new StreamingQueryResult(2, 50);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        result.setCancelAction(() -> cancelled.set(true));
+
+        assertThrows(InfluxDBQueryException.class, () -> result.stream().iterator().hasNext());
+        assertThat(cancelled.get(), is(true));
+    }
+}
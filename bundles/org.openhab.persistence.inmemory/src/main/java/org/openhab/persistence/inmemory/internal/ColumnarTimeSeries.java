@@ -0,0 +1,327 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ColumnarTimeSeries} stores the persisted states of one item in parallel primitive arrays, sorted by
+ * timestamp.
+ *
+ * Numbers are kept as the unscaled value and the scale of their {@link BigDecimal}, so they are returned exactly as
+ * they were stored. Numbers which do not fit, the units of {@link QuantityType}s and all other states are dictionary
+ * encoded, so that repeated states like <code>ON</code>/<code>OFF</code> share a single instance.
+ * Old entries are evicted from the start of the arrays and the arrays are compacted when they run full, so that
+ * appending is amortized constant time.
+ *
+ * Writers are serialized by a {@link StampedLock}. Readers copy the requested range with an optimistic read and only
+ * take the read lock if a write happened in the meantime.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ColumnarTimeSeries {
+    private static final int NUMBER = -1;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_DICTIONARY_COMPACT_SIZE = 64;
+
+    record Sample(long timestamp, State state) {
+    }
+
+    record Info(int count, long earliest, long latest) {
+    }
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] timestamps = new long[MIN_CAPACITY];
+    private long[] values = new long[MIN_CAPACITY];
+    private byte[] scales = new byte[MIN_CAPACITY];
+    private int[] codes = new int[MIN_CAPACITY];
+    private int start = 0;
+    private int size = 0;
+
+    private Object[] dictionary = new Object[MIN_CAPACITY];
+    private int dictionarySize = 0;
+    private final Map<Object, Integer> dictionaryIndex = new HashMap<>();
+
+    private long maxEntries;
+
+    ColumnarTimeSeries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Adds a state. A state which is already stored with the same timestamp is replaced.
+     */
+    void add(long timestamp, State state) {
+        long stamp = lock.writeLock();
+        try {
+            int index = search(timestamp);
+            if (index < 0) {
+                index = -index - 1;
+                if (start + size == timestamps.length) {
+                    int offset = index - start;
+                    makeRoom();
+                    index = start + offset;
+                }
+                int end = start + size;
+                if (index < end) {
+                    System.arraycopy(timestamps, index, timestamps, index + 1, end - index);
+                    System.arraycopy(values, index, values, index + 1, end - index);
+                    System.arraycopy(scales, index, scales, index + 1, end - index);
+                    System.arraycopy(codes, index, codes, index + 1, end - index);
+                }
+                size++;
+            }
+            timestamps[index] = timestamp;
+            if (state.getClass() == DecimalType.class && setNumber(index, ((DecimalType) state).toBigDecimal())) {
+                codes[index] = NUMBER;
+            } else if (state instanceof QuantityType<?> quantity && setNumber(index, quantity.toBigDecimal())) {
+                codes[index] = encode(quantity.getUnit());
+            } else {
+                values[index] = 0;
+                scales[index] = 0;
+                codes[index] = encode(state);
+            }
+            evict();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all entries within the time range (inclusive) whose state matches the predicate.
+     */
+    void remove(long from, long to, Predicate<State> predicate) {
+        long stamp = lock.writeLock();
+        try {
+            int end = start + size;
+            int target = lowerBound(from);
+            for (int i = target; i < end; i++) {
+                if (timestamps[i] <= to && predicate.test(decode(values[i], scales[i], codes[i], dictionary))) {
+                    continue;
+                }
+                timestamps[target] = timestamps[i];
+                values[target] = values[i];
+                scales[target] = scales[i];
+                codes[target] = codes[i];
+                target++;
+            }
+            size = target - start;
+            compactDictionary();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Changes the maximum number of entries and drops the oldest entries if there are more.
+     *
+     * @param maxEntries the maximum number of entries, <code>0</code> for no limit
+     */
+    void setMaxEntries(long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            this.maxEntries = maxEntries;
+            evict();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the entries within the time range (inclusive) in ascending order.
+     */
+    List<Sample> get(long from, long to) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                List<Sample> samples = copy(from, to);
+                if (lock.validate(stamp)) {
+                    return samples;
+                }
+            } catch (RuntimeException e) {
+                // a concurrent write left the arrays in an intermediate state, read again with the lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return copy(from, to);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries and the first and last timestamp, or <code>null</code> if there are no entries.
+     */
+    @Nullable
+    Info getInfo() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : new Info(size, timestamps[start], timestamps[start + size - 1]);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private List<Sample> copy(long from, long to) {
+        long[] timestamps = this.timestamps;
+        long[] values = this.values;
+        byte[] scales = this.scales;
+        int[] codes = this.codes;
+        Object[] dictionary = this.dictionary;
+        int end = Math.min(start + size, timestamps.length);
+
+        List<Sample> samples = new ArrayList<>();
+        for (int i = lowerBound(from); i < end && timestamps[i] <= to; i++) {
+            samples.add(new Sample(timestamps[i], decode(values[i], scales[i], codes[i], dictionary)));
+        }
+        return samples;
+    }
+
+    /**
+     * Stores the number at the index, if its unscaled value fits into a <code>long</code> and its scale into a
+     * <code>byte</code>.
+     *
+     * @return <code>false</code> if the number has to be stored as a dictionary entry
+     */
+    private boolean setNumber(int index, BigDecimal number) {
+        if (number.unscaledValue().bitLength() >= Long.SIZE || number.scale() != (byte) number.scale()) {
+            return false;
+        }
+        values[index] = number.unscaledValue().longValue();
+        scales[index] = (byte) number.scale();
+        return true;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static State decode(long value, byte scale, int code, Object[] dictionary) {
+        if (code == NUMBER) {
+            return new DecimalType(BigDecimal.valueOf(value, scale));
+        }
+        Object entry = dictionary[code];
+        if (entry instanceof Unit unit) {
+            return new QuantityType(BigDecimal.valueOf(value, scale), unit);
+        }
+        return (State) entry;
+    }
+
+    private int encode(Object entry) {
+        Integer code = dictionaryIndex.get(entry);
+        if (code == null) {
+            if (dictionarySize == dictionary.length) {
+                Object[] newDictionary = new Object[dictionary.length * 2];
+                System.arraycopy(dictionary, 0, newDictionary, 0, dictionarySize);
+                dictionary = newDictionary;
+            }
+            code = dictionarySize++;
+            dictionary[code] = entry;
+            dictionaryIndex.put(entry, code);
+        }
+        return code;
+    }
+
+    /**
+     * Drops dictionary entries which are no longer referenced, e.g. after many distinct string states were evicted.
+     */
+    private void compactDictionary() {
+        if (dictionarySize < MIN_DICTIONARY_COMPACT_SIZE || dictionarySize <= 2 * size) {
+            return;
+        }
+        Object[] oldDictionary = dictionary;
+        dictionary = new Object[Math.max(MIN_CAPACITY, dictionarySize)];
+        dictionarySize = 0;
+        dictionaryIndex.clear();
+        for (int i = start; i < start + size; i++) {
+            if (codes[i] != NUMBER) {
+                codes[i] = encode(oldDictionary[codes[i]]);
+            }
+        }
+    }
+
+    private void evict() {
+        if (maxEntries > 0 && size > maxEntries) {
+            int evicted = (int) (size - maxEntries);
+            start += evicted;
+            size -= evicted;
+            compactDictionary();
+        }
+    }
+
+    /**
+     * Frees space at the end of the arrays, either by moving the entries to the front or by growing the arrays.
+     */
+    private void makeRoom() {
+        if (start > 0 && size <= timestamps.length / 2) {
+            System.arraycopy(timestamps, start, timestamps, 0, size);
+            System.arraycopy(values, start, values, 0, size);
+            System.arraycopy(scales, start, scales, 0, size);
+            System.arraycopy(codes, start, codes, 0, size);
+        } else {
+            int capacity = Math.max(MIN_CAPACITY, size * 2);
+            if (maxEntries > 0) {
+                capacity = (int) Math.max(size + 1, Math.min(capacity, maxEntries * 2));
+            }
+            long[] newTimestamps = new long[capacity];
+            long[] newValues = new long[capacity];
+            byte[] newScales = new byte[capacity];
+            int[] newCodes = new int[capacity];
+            System.arraycopy(timestamps, start, newTimestamps, 0, size);
+            System.arraycopy(values, start, newValues, 0, size);
+            System.arraycopy(scales, start, newScales, 0, size);
+            System.arraycopy(codes, start, newCodes, 0, size);
+            timestamps = newTimestamps;
+            values = newValues;
+            scales = newScales;
+            codes = newCodes;
+        }
+        start = 0;
+    }
+
+    private int search(long timestamp) {
+        int index = lowerBound(timestamp);
+        return index < start + size && timestamps[index] == timestamp ? index : -index - 1;
+    }
+
+    /**
+     * Returns the index of the first entry with a timestamp equal to or after the given timestamp.
+     */
+    private int lowerBound(long timestamp) {
+        int low = start;
+        int high = Math.min(start + size, timestamps.length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
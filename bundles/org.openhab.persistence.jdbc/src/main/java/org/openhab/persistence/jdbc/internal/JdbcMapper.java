@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,6 +33,8 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.io.metrics.api.PersistenceMetrics;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -61,6 +64,8 @@ public class JdbcMapper {
     protected @NonNullByDefault({}) JdbcConfiguration conf;
     protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
     protected @NonNullByDefault({}) NamingStrategy namingStrategy;
+    protected final PersistenceMetrics metrics = new PersistenceMetrics(JdbcPersistenceServiceConstants.SERVICE_ID,
+            this::getQueueDepth);
     private long afterAccessMin = 10000;
     private long afterAccessMax = 0;
 
@@ -68,6 +73,13 @@ public class JdbcMapper {
         this.timeZoneProvider = timeZoneProvider;
     }
 
+    /**
+     * Returns the number of values waiting to be written, values are written immediately unless a write queue is used.
+     */
+    protected int getQueueDepth() {
+        return 0;
+    }
+
     /****************
      * MAPPER ITEMS *
      ****************/
@@ -216,28 +228,71 @@ public class JdbcMapper {
         logger.debug("JDBC::storeItemValue: item={} state={} date={}", item, itemState, date);
         String tableName = getTable(item);
         long timerStart = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         if (date == null) {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null));
         } else {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
         }
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
+        metrics.recordStore(startNanos);
+        errCnt = 0;
+    }
+
+    protected ItemVO prepareItemValue(Item item, State itemState, ZonedDateTime date) throws JdbcException {
+        logger.debug("JDBC::prepareItemValue: item={} state={} date={}", item, itemState, date);
+        String tableName = getTable(item);
+        return conf.getDBDAO().doPrepareItemValue(item, itemState, new ItemVO(tableName, null), date);
+    }
+
+    protected void storeItemValues(List<ItemVO> vol) throws JdbcSQLException {
+        logger.debug("JDBC::storeItemValues: rows={}", vol.size());
+        long timerStart = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        conf.getDBDAO().doStoreItemValues(vol);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        metrics.recordStore(startNanos);
         errCnt = 0;
     }
 
+    protected boolean isInsertReplacingValue() {
+        return conf.getDBDAO().isInsertReplacingValue();
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
 
-    protected List<HistoricItem> getHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount, String table,
-            Item item) throws JdbcSQLException {
+    protected Iterable<HistoricItem> getHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) throws JdbcSQLException {
         logger.debug(
                 "JDBC::getHistItemFilterQuery filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
                 true, numberDecimalcount, table, item, item.getName());
         long timerStart = System.currentTimeMillis();
-        List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
-                item.getName(), timeZoneProvider.getTimeZone());
+        long startNanos = System.nanoTime();
+        Iterable<HistoricItem> result = conf.getDBDAO().doGetPagedHistItemFilterQuery(item, filter,
+                numberDecimalcount, table, item.getName(), timeZoneProvider.getTimeZone(), conf.getQueryPageSize());
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        if (!(result instanceof List)) {
+            // pages are fetched while the result is read
+            result = metrics.recordQuery(result);
+        } else {
+            metrics.recordQuery(startNanos);
+        }
+        errCnt = 0;
+        return result;
+    }
+
+    protected List<HistoricItem> getAggregatedHistItemFilterQuery(FilterCriteria filter, Aggregation aggregation,
+            Duration bucket, String table, Item item) throws JdbcSQLException {
+        logger.debug("JDBC::getAggregatedHistItemFilterQuery aggregation='{}' bucket='{}' table='{}' itemName='{}'",
+                aggregation, bucket, table, item.getName());
+        long timerStart = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        List<HistoricItem> result = conf.getDBDAO().doGetAggregatedHistItemFilterQuery(item, filter, aggregation,
+                bucket, table, timeZoneProvider.getTimeZone());
+        logTime("getAggregatedHistItemFilterQuery", timerStart, System.currentTimeMillis());
+        metrics.recordQuery(startNanos);
         errCnt = 0;
         return result;
     }
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded write-behind queue for item values. Pending values are grouped per item table and written as JDBC
+ * batches when either the batch size is reached or the batch interval has elapsed.
+ *
+ * Producers are blocked for at most one batch interval when the queue is full; values which still cannot be
+ * queued after that are dropped and counted. Once the queue is stopped, values are written through synchronously.
+ *
+ * Of several values of a table with the same time, a batch only contains the one the database would keep if they were
+ * stored one by one: the last one if an insert replaces an existing value, otherwise the first one.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueue {
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteQueue.class);
+
+    private final JdbcMapper mapper;
+    private final int batchSize;
+    private final int batchInterval;
+    private final BlockingQueue<ItemVO> queue;
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+            new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-writer"));
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> flushJob;
+    // enqueue holds the read lock, so stop can not shut down the scheduler while a value is being queued
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private boolean stopped = false;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong mergedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+
+    public JdbcWriteQueue(JdbcMapper mapper, int batchSize, int batchInterval, int queueSize) {
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+    }
+
+    public void start() {
+        logger.debug("JDBC::JdbcWriteQueue: starting with batchSize={} batchInterval={} ms queueSize={}", batchSize,
+                batchInterval, queue.remainingCapacity());
+        flushJob = flushScheduler.scheduleWithFixedDelay(this::flush, batchInterval, batchInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all values which are still pending.
+     */
+    public void stop() {
+        stateLock.writeLock().lock();
+        try {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flushScheduler.shutdown();
+        try {
+            if (!flushScheduler.awaitTermination(batchInterval * 2L, TimeUnit.MILLISECONDS)) {
+                logger.warn("JDBC::JdbcWriteQueue: pending flush did not complete in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Adds a prepared value to the queue, waiting at most one batch interval for free capacity. After the queue has
+     * been stopped, the value is written synchronously instead.
+     *
+     * @param vo value prepared by {@link JdbcMapper#prepareItemValue}
+     * @return true if the value was queued or written, false if it was dropped
+     */
+    public boolean enqueue(ItemVO vo) {
+        stateLock.readLock().lock();
+        try {
+            if (!stopped) {
+                return offer(vo);
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        return writeThrough(vo);
+    }
+
+    private boolean offer(ItemVO vo) {
+        try {
+            if (!queue.offer(vo, batchInterval, TimeUnit.MILLISECONDS)) {
+                droppedCount.incrementAndGet();
+                logger.warn("JDBC::JdbcWriteQueue: queue is full, dropping value for table '{}'", vo.getTableName());
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        queuedCount.incrementAndGet();
+        if (queue.size() >= batchSize && flushPending.compareAndSet(false, true)) {
+            flushScheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    private synchronized boolean writeThrough(ItemVO vo) {
+        // values queued before stop are written first, so that the order per table is kept
+        flush();
+        try {
+            mapper.storeItemValues(List.of(vo));
+            return true;
+        } catch (JdbcSQLException | RuntimeException e) {
+            failedCount.incrementAndGet();
+            logger.warn("JDBC::JdbcWriteQueue: Unable to store value in table '{}' after stop", vo.getTableName(), e);
+            return false;
+        }
+    }
+
+    private synchronized void flush() {
+        flushPending.set(false);
+        List<ItemVO> pending = new ArrayList<>(queue.size());
+        queue.drainTo(pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+        long timerStart = System.currentTimeMillis();
+
+        // group per table and keep one value per time, a batch must not contain the same time twice
+        boolean replace = mapper.isInsertReplacingValue();
+        Map<String, Map<Date, ItemVO>> valuesPerTable = new LinkedHashMap<>();
+        for (ItemVO vo : pending) {
+            Map<Date, ItemVO> values = valuesPerTable.computeIfAbsent(vo.getTableName(), t -> new LinkedHashMap<>());
+            if (replace) {
+                values.put(vo.getTime(), vo);
+            } else {
+                values.putIfAbsent(vo.getTime(), vo);
+            }
+        }
+        int written = 0;
+        for (Map.Entry<String, Map<Date, ItemVO>> entry : valuesPerTable.entrySet()) {
+            List<ItemVO> vol = new ArrayList<>(entry.getValue().values());
+            try {
+                mapper.storeItemValues(vol);
+                written += vol.size();
+            } catch (JdbcSQLException e) {
+                failedCount.addAndGet(vol.size());
+                logger.warn("JDBC::JdbcWriteQueue: Unable to store {} values in table '{}'", vol.size(),
+                        entry.getKey(), e);
+            } catch (RuntimeException e) {
+                failedCount.addAndGet(vol.size());
+                logger.warn("JDBC::JdbcWriteQueue: Unexpected error while storing values in table '{}'",
+                        entry.getKey(), e);
+            }
+        }
+        long duration = System.currentTimeMillis() - timerStart;
+        mergedCount.addAndGet(pending.size() - valuesPerTable.values().stream().mapToInt(Map::size).sum());
+        flushCount.incrementAndGet();
+        lastFlushMillis = duration;
+        if (duration > maxFlushMillis) {
+            maxFlushMillis = duration;
+        }
+        logger.debug("JDBC::JdbcWriteQueue: flushed {} values into {} tables in {} ms", written,
+                valuesPerTable.size(), duration);
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getMergedCount() {
+        return mergedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    public long getMaxFlushMillis() {
+        return maxFlushMillis;
+    }
+}
@@ -13,17 +13,21 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -56,6 +60,7 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -97,6 +102,14 @@ public class JdbcBaseDAO {
     protected String sqlAlterTableColumn = "ALTER TABLE #tableName# MODIFY COLUMN #columnName# #columnType#";
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
+    // whether sqlInsertItemValue replaces the value of an existing row with the same time
+    protected boolean sqlInsertReplacesValue = true;
+
+    private final Map<InsertSqlKey, String> insertSqlCache = new ConcurrentHashMap<>();
+
+    private record InsertSqlKey(String template, String tableName, @Nullable String dbType,
+            @Nullable String tablePrimaryValue) {
+    }
 
     /********
      * INIT *
@@ -430,10 +443,8 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { storedVO.getTableName(), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = { storedVO.getValue(), storedVO.getValue() };
+        String sql = getStoreItemValueSql(storedVO, sqlTypes.get("tablePrimaryValue"));
+        Object[] params = storeItemValueParamsProvider(storedVO, null);
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -444,10 +455,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] { storedVO.getTableName(), "?" });
+        String sql = getStoreItemValueSql(storedVO, "?");
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        Object[] params = storeItemValueParamsProvider(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -456,13 +466,52 @@ public class JdbcBaseDAO {
         }
     }
 
+    public ItemVO doPrepareItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) {
+        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
+        storedVO.setTime(new java.util.Date(date.toInstant().toEpochMilli()));
+        return storedVO;
+    }
+
+    /**
+     * Returns whether storing a value for a time which already has a value replaces that value. Otherwise the first
+     * value is kept, or storing the later one fails.
+     */
+    public boolean isInsertReplacingValue() {
+        return sqlInsertReplacesValue;
+    }
+
+    /**
+     * Stores prepared values of a single item table in one JDBC batch.
+     *
+     * @param vol values prepared by {@link #doPrepareItemValue}, all belonging to the same table
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(List<ItemVO> vol) throws JdbcSQLException {
+        if (vol.isEmpty()) {
+            return;
+        }
+        String sql = getStoreItemValueSql(vol.get(0), "?");
+        Object[][] params = new Object[vol.size()][];
+        for (int i = 0; i < vol.size(); i++) {
+            ItemVO storedVO = vol.get(i);
+            params[i] = storeItemValueParamsProvider(storedVO, new java.sql.Timestamp(storedVO.getTime().getTime()));
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
-        logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
+        Object[] params = resolveTimeFilterParams(filter, timeZone);
+        logger.debug("JDBC::doGetHistItemFilterQuery sql={} params={}", sql, params);
         List<Object[]> m;
         try {
-            m = Yank.queryObjectArrays(sql, null);
+            m = Yank.queryObjectArrays(sql, params);
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
@@ -478,11 +527,157 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Returns the result of a filter query as a lazily evaluated {@link Iterable}.
+     *
+     * If the filter does not limit the number of results, rows are fetched in pages of {@code pageSize} rows. Each
+     * page continues after the time of the last row of the previous page, so only one page is held in memory and no
+     * connection is kept open between pages. Every call to {@link Iterable#iterator()} runs the query again.
+     * Filters with a page size, or a {@code pageSize} of 0, are executed at once.
+     *
+     * If fetching a later page fails, the iterator throws the {@link YankSQLException} instead of ending early, so
+     * that a partial result is not mistaken for the complete history.
+     */
+    public Iterable<HistoricItem> doGetPagedHistItemFilterQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone, int pageSize)
+            throws JdbcSQLException {
+        if (pageSize <= 0 || filter.getPageSize() != Integer.MAX_VALUE) {
+            return doGetHistItemFilterQuery(item, filter, numberDecimalcount, table, name, timeZone);
+        }
+        FilterCriteria firstPageFilter = pageFilter(filter, pageSize, null);
+        FilterCriteria nextPageFilter = pageFilter(filter, pageSize, ZonedDateTime.now());
+        String firstPageSql = histItemFilterQueryProvider(firstPageFilter, numberDecimalcount, table, name, timeZone);
+        String nextPageSql = histItemFilterQueryProvider(nextPageFilter, numberDecimalcount, table, name, timeZone);
+        Object[] firstPageParams = resolveTimeFilterParams(firstPageFilter, timeZone);
+        Object[] nextPageParams = resolveTimeFilterParams(nextPageFilter, timeZone);
+        int keyIndex = filter.getOrdering() == Ordering.ASCENDING ? 0 : nextPageParams.length - 1;
+
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return () -> new Iterator<>() {
+            private Iterator<Object[]> page = Collections.emptyIterator();
+            private @Nullable Object lastTime;
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !lastPage) {
+                    page = fetchNextPage();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public HistoricItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] o = page.next();
+                return new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsZonedDateTime(o[0]));
+            }
+
+            private Iterator<Object[]> fetchNextPage() {
+                Object previousTime = lastTime;
+                String sql = previousTime == null ? firstPageSql : nextPageSql;
+                Object[] params = firstPageParams;
+                if (previousTime != null) {
+                    params = nextPageParams.clone();
+                    params[keyIndex] = previousTime;
+                }
+                logger.debug("JDBC::doGetPagedHistItemFilterQuery sql={} params={}", sql, params);
+                @Nullable List<Object[]> rows = Yank.queryObjectArrays(sql, params);
+                if (rows == null || rows.isEmpty()) {
+                    lastPage = true;
+                    return Collections.emptyIterator();
+                }
+                lastPage = rows.size() < pageSize;
+                lastTime = rows.get(rows.size() - 1)[0];
+                // the time bound is inclusive, so the last row of the previous page is returned again
+                if (previousTime != null && previousTime.equals(rows.get(0)[0])) {
+                    rows = rows.subList(1, rows.size());
+                }
+                return rows.iterator();
+            }
+        };
+    }
+
+    /**
+     * Creates a copy of the filter which fetches the first {@code pageSize} rows. If {@code keyTime} is given, the
+     * time bound in ordering direction is set so that {@link #histItemFilterQueryProvider} adds its placeholder.
+     */
+    private FilterCriteria pageFilter(FilterCriteria filter, int pageSize, @Nullable ZonedDateTime keyTime) {
+        FilterCriteria pageFilter = new FilterCriteria();
+        pageFilter.setOrdering(filter.getOrdering());
+        pageFilter.setPageNumber(0);
+        pageFilter.setPageSize(pageSize);
+        String itemName = filter.getItemName();
+        if (itemName != null) {
+            pageFilter.setItemName(itemName);
+        }
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (keyTime != null) {
+            if (filter.getOrdering() == Ordering.ASCENDING) {
+                beginDate = keyTime;
+            } else {
+                endDate = keyTime;
+            }
+        }
+        if (beginDate != null) {
+            pageFilter.setBeginDate(beginDate);
+        }
+        if (endDate != null) {
+            pageFilter.setEndDate(endDate);
+        }
+        return pageFilter;
+    }
+
+    /**
+     * Returns one row per time bucket, aggregated by the database.
+     *
+     * @throws UnsupportedOperationException if the database does not support grouping by time buckets
+     */
+    public List<HistoricItem> doGetAggregatedHistItemFilterQuery(Item item, FilterCriteria filter,
+            Aggregation aggregation, Duration bucket, String table, ZoneId timeZone) throws JdbcSQLException {
+        String sql = histItemAggregationQueryProvider(filter, aggregation, Math.max(bucket.toSeconds(), 1), table);
+        if (sql == null) {
+            throw new UnsupportedOperationException("Aggregation is not supported by " + getClass().getSimpleName());
+        }
+        Object[] params = resolveTimeFilterParams(filter, timeZone);
+        logger.debug("JDBC::doGetAggregatedHistItemFilterQuery sql={} params={}", sql, params);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null) {
+            return List.of();
+        }
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        List<HistoricItem> result = new ArrayList<>(m.size());
+        for (Object[] o : m) {
+            Object value = o[1];
+            if (value == null) {
+                continue;
+            }
+            // averages of percent values are not integral anymore
+            if (!(item instanceof NumberItem) && value instanceof Number number && !(value instanceof Integer)) {
+                value = (int) Math.round(number.doubleValue());
+            }
+            result.add(new JdbcHistoricItem(itemName, objectAsState(item, unit, value), objectAsZonedDateTime(o[0])));
+        }
+        return result;
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
-        logger.debug("JDBC::doDeleteItemValues sql={}", sql);
+        Object[] params = resolveTimeFilterParams(filter, timeZone);
+        logger.debug("JDBC::doDeleteItemValues sql={} params={}", sql, params);
         try {
-            Yank.execute(sql, null);
+            Yank.execute(sql, params);
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
@@ -503,15 +698,13 @@ public class JdbcBaseDAO {
     /*************
      * Providers *
      *************/
-    static final DateTimeFormatter JDBC_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
         logger.debug(
                 "JDBC::getHistItemFilterQueryProvider filter = {}, numberDecimalcount = {}, table = {}, simpleName = {}",
                 filter, numberDecimalcount, table, simpleName);
 
-        String filterString = resolveTimeFilter(filter, timeZone);
+        String filterString = resolveTimeFilter(filter);
         filterString += (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY time ASC" : " ORDER BY time DESC";
         if (filter.getPageSize() != Integer.MAX_VALUE) {
             filterString += " LIMIT " + filter.getPageNumber() * filter.getPageSize() + "," + filter.getPageSize();
@@ -528,29 +721,76 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Builds the query for values aggregated per time bucket. The time of a row is the start of its bucket. For
+     * {@link Aggregation#LAST} the value of the last row of each bucket is returned.
+     *
+     * @return the query, or null if the database has no time bucket expression
+     */
+    protected @Nullable String histItemAggregationQueryProvider(FilterCriteria filter, Aggregation aggregation,
+            long bucketSeconds, String table) {
+        String bucket = timeBucketProvider(bucketSeconds);
+        if (bucket == null) {
+            return null;
+        }
+        String filterString = resolveTimeFilter(filter);
+        String queryString = aggregation == Aggregation.LAST
+                ? "SELECT " + bucket + " AS time, value FROM " + table + " WHERE time IN (SELECT MAX(time) FROM "
+                        + table + filterString + " GROUP BY " + bucket + ")"
+                : "SELECT " + bucket + " AS time, " + aggregation.name() + "(value) AS value FROM " + table
+                        + filterString + " GROUP BY " + bucket;
+        queryString += (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY time ASC" : " ORDER BY time DESC";
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Returns the SQL expression for the start time of the bucket a row belongs to. Buckets are aligned to the epoch.
+     *
+     * @return the expression, or null if the database does not support server side aggregation
+     */
+    protected @Nullable String timeBucketProvider(long bucketSeconds) {
+        return "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / " + bucketSeconds + ") * " + bucketSeconds + ")";
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
-        String filterString = resolveTimeFilter(filter, timeZone);
+        String filterString = resolveTimeFilter(filter);
         String deleteString = filterString.isEmpty() ? "TRUNCATE TABLE " + table
                 : "DELETE FROM " + table + filterString;
         logger.debug("JDBC::delete deleteString = {}", deleteString);
         return deleteString;
     }
 
-    protected String resolveTimeFilter(FilterCriteria filter, ZoneId timeZone) {
+    /**
+     * Builds the WHERE clause for the time range of the filter. The dates themselves are bound as parameters, see
+     * {@link #resolveTimeFilterParams(FilterCriteria, ZoneId)}, so that the statement text only depends on the table.
+     */
+    protected String resolveTimeFilter(FilterCriteria filter) {
         String filterString = "";
+        if (filter.getBeginDate() != null) {
+            filterString += filterString.isEmpty() ? " WHERE" : " AND";
+            filterString += " TIME>=?";
+        }
+        if (filter.getEndDate() != null) {
+            filterString += filterString.isEmpty() ? " WHERE" : " AND";
+            filterString += " TIME<=?";
+        }
+        return filterString;
+    }
+
+    protected Object[] resolveTimeFilterParams(FilterCriteria filter, ZoneId timeZone) {
+        List<Object> params = new ArrayList<>(2);
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null) {
-            filterString += filterString.isEmpty() ? " WHERE" : " AND";
-            filterString += " TIME>='" + JDBC_DATE_FORMAT.format(beginDate.withZoneSameInstant(timeZone)) + "'";
+            params.add(java.sql.Timestamp.valueOf(beginDate.withZoneSameInstant(timeZone).toLocalDateTime()));
         }
         ZonedDateTime endDate = filter.getEndDate();
         if (endDate != null) {
-            filterString += filterString.isEmpty() ? " WHERE" : " AND";
-            filterString += " TIME<='" + JDBC_DATE_FORMAT.format(endDate.withZoneSameInstant(timeZone)) + "'";
+            params.add(java.sql.Timestamp.valueOf(endDate.withZoneSameInstant(timeZone).toLocalDateTime()));
         }
-        return filterString;
+        return params.toArray();
     }
 
     private String updateItemTableNamesProvider(ItemVO itemTable) {
@@ -559,6 +799,33 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Returns the insert statement for the table of the given value. The placeholders of the template are only
+     * resolved once per table, so repeated stores reuse the same statement text and the driver can reuse the
+     * prepared statement of the pooled connection.
+     */
+    protected String getStoreItemValueSql(ItemVO vo, @Nullable String tablePrimaryValue) {
+        return insertSqlCache.computeIfAbsent(
+                new InsertSqlKey(sqlInsertItemValue, vo.getTableName(), vo.getDbType(), tablePrimaryValue),
+                k -> storeItemValueSqlProvider(vo, tablePrimaryValue));
+    }
+
+    protected String storeItemValueSqlProvider(ItemVO vo, @Nullable String tablePrimaryValue) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { vo.getTableName(), tablePrimaryValue });
+    }
+
+    /**
+     * @param vo the value to store
+     * @param timestamp the time to store or null if the database time is used
+     * @return the parameters for the statement returned by {@link #storeItemValueSqlProvider}
+     */
+    protected Object[] storeItemValueParamsProvider(ItemVO vo, java.sql.@Nullable Timestamp timestamp) {
+        return timestamp == null ? new Object[] { vo.getValue(), vo.getValue() }
+                : new Object[] { timestamp, vo.getValue(), vo.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcWriteQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueueTest {
+
+    private final JdbcMapper mapper = mock(JdbcMapper.class);
+
+    private static ItemVO itemValue(String tableName, long time) {
+        ItemVO vo = new ItemVO(tableName, null);
+        vo.setTime(new Date(time));
+        vo.setValue(time);
+        return vo;
+    }
+
+    @Test
+    void stopWritesPendingValues() throws JdbcSQLException {
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(mapper, 100, 60000, 100);
+        writeQueue.start();
+
+        assertTrue(writeQueue.enqueue(itemValue("item0001", 1)));
+        assertTrue(writeQueue.enqueue(itemValue("item0001", 2)));
+        verify(mapper, never()).storeItemValues(anyList());
+
+        writeQueue.stop();
+
+        verify(mapper).storeItemValues(argThat(values -> values.size() == 2));
+        assertEquals(0, writeQueue.getQueueDepth());
+    }
+
+    @Test
+    void enqueueAfterStopWritesThrough() throws JdbcSQLException {
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(mapper, 1, 60000, 100);
+        writeQueue.start();
+        writeQueue.stop();
+
+        ItemVO vo = itemValue("item0001", 1);
+        assertTrue(writeQueue.enqueue(vo));
+
+        verify(mapper).storeItemValues(List.of(vo));
+        assertEquals(0, writeQueue.getQueueDepth());
+        assertEquals(0, writeQueue.getDroppedCount());
+    }
+
+    @Test
+    void failedWriteThroughIsCounted() throws JdbcSQLException {
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(mapper, 1, 60000, 100);
+        writeQueue.start();
+        writeQueue.stop();
+        doThrow(new IllegalStateException("failed")).when(mapper).storeItemValues(anyList());
+
+        assertFalse(writeQueue.enqueue(itemValue("item0001", 1)));
+        assertEquals(1, writeQueue.getFailedCount());
+    }
+
+    @Test
+    void lastValueOfSameTimeIsWrittenIfInsertReplacesValue() throws JdbcSQLException {
+        when(mapper.isInsertReplacingValue()).thenReturn(true);
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(mapper, 100, 60000, 100);
+        writeQueue.start();
+        ItemVO first = itemValue("item0001", 1);
+        ItemVO second = itemValue("item0001", 1);
+        second.setValue(2);
+
+        writeQueue.enqueue(first);
+        writeQueue.enqueue(second);
+        writeQueue.stop();
+
+        verify(mapper).storeItemValues(List.of(second));
+        assertEquals(1, writeQueue.getMergedCount());
+    }
+
+    @Test
+    void firstValueOfSameTimeIsWrittenIfInsertKeepsValue() throws JdbcSQLException {
+        when(mapper.isInsertReplacingValue()).thenReturn(false);
+        JdbcWriteQueue writeQueue = new JdbcWriteQueue(mapper, 100, 60000, 100);
+        writeQueue.start();
+        ItemVO first = itemValue("item0001", 1);
+        ItemVO second = itemValue("item0001", 1);
+        second.setValue(2);
+
+        writeQueue.enqueue(first);
+        writeQueue.enqueue(second);
+        writeQueue.stop();
+
+        verify(mapper).storeItemValues(List.of(first));
+        assertEquals(1, writeQueue.getMergedCount());
+    }
+}
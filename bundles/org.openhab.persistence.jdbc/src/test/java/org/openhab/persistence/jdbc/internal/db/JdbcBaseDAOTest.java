@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Instant;
@@ -23,7 +24,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 import javax.measure.Quantity;
@@ -66,6 +66,8 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.aggregation.Aggregation;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -180,10 +182,8 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.histItemFilterQueryProvider(filter, 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
-        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
-                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
-                + "' ORDER BY time DESC"));
+        assertThat(sql,
+                is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE TIME>=? AND TIME<=? ORDER BY time DESC"));
     }
 
     @Test
@@ -194,6 +194,26 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemAggregationQueryProviderGroupsByTimeBucket() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemAggregationQueryProvider(filter, Aggregation.AVG, 300, DB_TABLE_NAME);
+        // the time of a row is the start of its bucket
+        assertThat(sql, is("SELECT FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 300) * 300) AS time, AVG(value) AS value"
+                + " FROM " + DB_TABLE_NAME
+                + " WHERE TIME>=? GROUP BY FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 300) * 300) ORDER BY time ASC"));
+    }
+
+    @Test
+    void testHistItemAggregationQueryProviderSelectsLastRowPerTimeBucket() {
+        String sql = jdbcBaseDAO.histItemAggregationQueryProvider(filter, Aggregation.LAST, 60, DB_TABLE_NAME);
+        assertThat(sql, is("SELECT FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 60) * 60) AS time, value FROM "
+                + DB_TABLE_NAME + " WHERE time IN (SELECT MAX(time) FROM " + DB_TABLE_NAME
+                + " GROUP BY FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 60) * 60)) ORDER BY time DESC"));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -206,34 +226,34 @@ public class JdbcBaseDAOTest {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
-        assertThat(sql, is("DELETE FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
-                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
-                + "'"));
+        assertThat(sql, is("DELETE FROM " + DB_TABLE_NAME + " WHERE TIME>=? AND TIME<=?"));
     }
 
     @Test
     void testResolveTimeFilterWithNoDatesReturnsEmptyString() {
-        String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
+        String sql = jdbcBaseDAO.resolveTimeFilter(filter);
         assertThat(sql, is(""));
+        assertThat(jdbcBaseDAO.resolveTimeFilterParams(filter, UTC_ZONE_ID).length, is(0));
     }
 
     @Test
     void testResolveTimeFilterWithStartDateOnlyReturnsWhereClause() {
         filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
 
-        String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql, is(" WHERE TIME>='"
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'"));
+        String sql = jdbcBaseDAO.resolveTimeFilter(filter);
+        assertThat(sql, is(" WHERE TIME>=?"));
+        assertThat(jdbcBaseDAO.resolveTimeFilterParams(filter, UTC_ZONE_ID),
+                is(new Object[] { java.sql.Timestamp.valueOf("2022-01-10 15:01:44") }));
     }
 
     @Test
     void testResolveTimeFilterWithEndDateOnlyReturnsWhereClause() {
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
-        String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql, is(" WHERE TIME<='"
-                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
+        String sql = jdbcBaseDAO.resolveTimeFilter(filter);
+        assertThat(sql, is(" WHERE TIME<=?"));
+        assertThat(jdbcBaseDAO.resolveTimeFilterParams(filter, UTC_ZONE_ID),
+                is(new Object[] { java.sql.Timestamp.valueOf("2022-01-15 15:01:44") }));
     }
 
     @Test
@@ -241,12 +261,56 @@ public class JdbcBaseDAOTest {
         filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
         filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
 
-        String sql = jdbcBaseDAO.resolveTimeFilter(filter, UTC_ZONE_ID);
-        assertThat(sql,
-                is(" WHERE TIME>='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
-                        + "'" //
-                        + " AND TIME<='"
-                        + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
+        String sql = jdbcBaseDAO.resolveTimeFilter(filter);
+        assertThat(sql, is(" WHERE TIME>=? AND TIME<=?"));
+        assertThat(jdbcBaseDAO.resolveTimeFilterParams(filter, UTC_ZONE_ID),
+                is(new Object[] { java.sql.Timestamp.valueOf("2022-01-10 15:01:44"),
+                        java.sql.Timestamp.valueOf("2022-01-15 15:01:44") }));
+    }
+
+    @Test
+    void testResolveTimeFilterParamsConvertsToConfiguredTimeZone() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+
+        assertThat(jdbcBaseDAO.resolveTimeFilterParams(filter, ZoneId.of("Europe/Berlin")),
+                is(new Object[] { java.sql.Timestamp.valueOf("2022-01-10 16:01:44") }));
+    }
+
+    @Test
+    void testGetStoreItemValueSqlReturnsInsertWithTimeParameter() {
+        ItemVO vo = jdbcBaseDAO.doPrepareItemValue(new NumberItem("Number"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null), parseDateTimeString("2022-01-10T15:01:44"));
+
+        String sql = jdbcBaseDAO.getStoreItemValueSql(vo, "?");
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+    }
+
+    @Test
+    void testGetStoreItemValueSqlReusesResolvedStatementPerTable() {
+        ItemVO vo1 = jdbcBaseDAO.doPrepareItemValue(new NumberItem("Number"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null), parseDateTimeString("2022-01-10T15:01:44"));
+        ItemVO vo2 = jdbcBaseDAO.doPrepareItemValue(new NumberItem("Number"), new DecimalType(8.1),
+                new ItemVO(DB_TABLE_NAME, null), parseDateTimeString("2022-01-10T15:01:45"));
+
+        String sql = jdbcBaseDAO.getStoreItemValueSql(vo1, "NOW()");
+        assertSame(sql, jdbcBaseDAO.getStoreItemValueSql(vo2, "NOW()"));
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( NOW(), ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+    }
+
+    @Test
+    void testStoreItemValueParamsProviderReturnsTimestampAndValue() {
+        ZonedDateTime date = parseDateTimeString("2022-01-10T15:01:44");
+        ItemVO vo = jdbcBaseDAO.doPrepareItemValue(new NumberItem("Number"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null), date);
+
+        Object[] params = jdbcBaseDAO.storeItemValueParamsProvider(vo,
+                new java.sql.Timestamp(date.toInstant().toEpochMilli()));
+        assertThat(params.length, is(3));
+        assertEquals(new java.sql.Timestamp(date.toInstant().toEpochMilli()), params[0]);
+        assertEquals(7.3, params[1]);
+        assertEquals(7.3, params[2]);
     }
 
     private ZonedDateTime parseDateTimeString(String dts) {
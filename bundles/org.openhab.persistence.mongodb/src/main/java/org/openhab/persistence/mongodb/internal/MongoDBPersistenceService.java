@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.mongodb.internal;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -41,6 +42,8 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.aggregation.AggregatingPersistenceService;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -65,8 +68,8 @@ import com.mongodb.client.result.DeleteResult;
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class, QueryablePersistenceService.class,
-        ModifiablePersistenceService.class }, configurationPid = "org.openhab.mongodb", configurationPolicy = ConfigurationPolicy.REQUIRE)
-public class MongoDBPersistenceService implements ModifiablePersistenceService {
+        ModifiablePersistenceService.class, AggregatingPersistenceService.class }, configurationPid = "org.openhab.mongodb", configurationPolicy = ConfigurationPolicy.REQUIRE)
+public class MongoDBPersistenceService implements ModifiablePersistenceService, AggregatingPersistenceService {
 
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
@@ -297,6 +300,79 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         return items;
     }
 
+    @Override
+    public Iterable<HistoricItem> queryAggregated(FilterCriteria filter, Duration bucket, Aggregation aggregation) {
+        MongoCollection<Document> collection = prepareCollection(filter);
+        // If collection creation failed, return nothing.
+        if (collection == null) {
+            // Logging is done in connectToCollection()
+            return Collections.emptyList();
+        }
+
+        Document query = createQuery(filter);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        @Nullable
+        String realItemName = filter.getItemName();
+        if (realItemName == null) {
+            logger.warn("Item name is missing in filter {}", filter);
+            return Collections.emptyList();
+        }
+
+        Item item = getItem(realItemName);
+        if (item == null) {
+            logger.warn("Item {} not found", realItemName);
+            return Collections.emptyList();
+        }
+        if (!aggregation.isApplicableTo(item)) {
+            logger.warn("Aggregation {} is not supported for item {} of type {}", aggregation, realItemName,
+                    item.getType());
+            return Collections.emptyList();
+        }
+
+        // the bucket is derived from the epoch milliseconds, as $bucket would need all boundaries up front;
+        // date arithmetic is used instead of $toLong, which is only available from MongoDB 4.0
+        long bucketMillis = Math.max(bucket.toMillis(), 1000);
+        String timestamp = "$" + MongoDBFields.FIELD_TIMESTAMP;
+        Document timestampMillis = new Document("$subtract", List.of(timestamp, new Date(0)));
+        Document bucketStart = new Document("$subtract",
+                List.of(timestamp, new Document("$mod", List.of(timestampMillis, bucketMillis))));
+        String accumulator = switch (aggregation) {
+            case MIN -> "$min";
+            case MAX -> "$max";
+            case AVG -> "$avg";
+            case LAST -> "$last";
+        };
+        Document group = new Document(MongoDBFields.FIELD_ID, bucketStart)
+                .append(MongoDBFields.FIELD_VALUE, new Document(accumulator, "$" + MongoDBFields.FIELD_VALUE))
+                .append(MongoDBFields.FIELD_UNIT, new Document("$last", "$" + MongoDBFields.FIELD_UNIT));
+        Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
+        List<Document> pipeline = List.of(new Document("$match", query),
+                new Document("$sort", new Document(MongoDBFields.FIELD_TIMESTAMP, 1)), new Document("$group", group),
+                new Document("$sort", new Document(MongoDBFields.FIELD_ID, sortDir)));
+
+        logger.debug("Aggregation: {}", pipeline);
+
+        List<HistoricItem> items = new ArrayList<>();
+        try (MongoCursor<Document> cursor = collection.aggregate(pipeline).allowDiskUse(true).iterator()) {
+            while (cursor.hasNext()) {
+                Document obj = cursor.next();
+                if (obj.get(MongoDBFields.FIELD_VALUE) == null) {
+                    continue;
+                }
+                if (obj.get(MongoDBFields.FIELD_UNIT) == null) {
+                    obj.remove(MongoDBFields.FIELD_UNIT);
+                }
+                final State state = MongoDBTypeConversions.getStateFromDocument(item, obj);
+                items.add(new MongoDBItem(realItemName, state, ZonedDateTime
+                        .ofInstant(obj.getDate(MongoDBFields.FIELD_ID).toInstant(), ZoneId.systemDefault())));
+            }
+        }
+        return items;
+    }
+
     private @Nullable Item getItem(String itemName) {
         try {
             return itemRegistry.getItem(itemName);
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.text.DateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -45,8 +46,10 @@ import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.aggregation.Aggregation;
 import org.osgi.framework.BundleContext;
 
 import com.mongodb.client.MongoCollection;
@@ -989,4 +992,95 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests the queryAggregated method of MongoDBPersistenceService.
+     *
+     * This test checks if the aggregation pipeline returns one value per time bucket, timestamped with the start of
+     * the bucket, for all aggregation functions.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testQueryAggregated(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB(null, dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+            } catch (ItemNotFoundException e) {
+            }
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // two values in the first hour, one in the second and two in the third
+            ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+            int[] minutes = { 10, 20, 70, 130, 140 };
+            double[] values = { 1, 3, 5, 7, 9 };
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 0);
+            for (int i = 0; i < values.length; i++) {
+                service.store(item, start.plusMinutes(minutes[i]), new DecimalType(values[i]));
+            }
+            FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem", start, start.plusHours(3));
+
+            // Execution and verification
+            Map<Aggregation, List<Double>> expectedValues = Map.of(Aggregation.MIN, List.of(1.0, 5.0, 7.0),
+                    Aggregation.MAX, List.of(3.0, 5.0, 9.0), Aggregation.AVG, List.of(2.0, 5.0, 8.0),
+                    Aggregation.LAST, List.of(3.0, 5.0, 9.0));
+            for (Map.Entry<Aggregation, List<Double>> expected : expectedValues.entrySet()) {
+                List<HistoricItem> result = new ArrayList<>();
+                service.queryAggregated(filter, Duration.ofHours(1), expected.getKey()).forEach(result::add);
+
+                assertEquals(expected.getValue(),
+                        result.stream().map(h -> ((DecimalType) h.getState()).doubleValue()).toList(),
+                        expected.getKey().toString());
+                assertEquals(List.of(start, start.plusHours(1), start.plusHours(2)),
+                        result.stream().map(h -> h.getTimestamp().withZoneSameInstant(start.getZone())).toList(),
+                        expected.getKey().toString());
+            }
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that only the last value can be aggregated for items which do not hold a number
+     */
+    @Test
+    public void testQueryAggregatedNonNumericItem() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB(null, dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createStringItem("TestItem", ""));
+            } catch (ItemNotFoundException e) {
+            }
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+            StringItem item = DataCreationHelper.createStringItem("TestItem", "");
+            service.store(item, start.plusMinutes(10), new StringType("first"));
+            service.store(item, start.plusMinutes(20), new StringType("second"));
+            FilterCriteria filter = DataCreationHelper.createFilterCriteria("TestItem", start, start.plusHours(1));
+
+            // Execution
+            List<HistoricItem> last = new ArrayList<>();
+            service.queryAggregated(filter, Duration.ofHours(1), Aggregation.LAST).forEach(last::add);
+            List<HistoricItem> avg = new ArrayList<>();
+            service.queryAggregated(filter, Duration.ofHours(1), Aggregation.AVG).forEach(avg::add);
+
+            // Verification
+            assertEquals(1, last.size());
+            assertEquals(new StringType("second"), last.get(0).getState());
+            assertTrue(avg.isEmpty());
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
@@ -13,8 +13,11 @@
 package org.openhab.persistence.rrd4j.internal;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -22,18 +25,23 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +53,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -71,19 +80,21 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceCronStrategy;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
+import org.openhab.io.metrics.api.PersistenceMetrics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
-import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
@@ -112,6 +123,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private record Point(long timestamp, double value) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -121,9 +135,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
+    private static final int WRITER_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int FILE_LOCK_STRIPES = 64;
+
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    // writes to different database files run in parallel, writes to the same file are serialized by its lock stripe
+    private final ExecutorService writer = Executors.newFixedThreadPool(WRITER_THREADS,
+            new NamedThreadFactory("RRD4j-writer"));
+    private final Lock[] fileLocks = Stream.generate(ReentrantLock::new).limit(FILE_LOCK_STRIPES)
+            .toArray(Lock[]::new);
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -132,18 +155,27 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
-    private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
+    private static final String CONFIG_WARMUP = "warmup";
+
+    // the storage of the active service instance, the chart servlet opens its databases with the same backend
+    private static volatile @Nullable RRD4jStorage activeStorage;
+
+    private final RRD4jStorage storage;
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_ID, storageMap::size);
 
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
 
-    public static RrdDbPool getDatabasePool() {
-        return DATABASE_POOL;
+    /**
+     * Returns the storage of the active service, or {@code null} if the service is not active.
+     */
+    public static @Nullable RRD4jStorage getActiveStorage() {
+        return activeStorage;
     }
 
     private final ScheduledFuture<?> storeJob;
@@ -151,8 +183,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        // the backend is only set up here, databases of the pool must not outlive their backend factory
+        storage = RRD4jStorage.create(config);
+        activeStorage = storage;
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
+        if (Boolean.parseBoolean(Objects.toString(config.get(CONFIG_WARMUP), "false"))) {
+            scheduler.execute(this::warmUp);
+        }
         active = true;
     }
 
@@ -200,6 +238,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        if (storage.differsFrom(config)) {
+            logger.info("The changed rrd4j storage backend is used after the persistence service has been restarted");
+        }
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -214,6 +256,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            if (RRD4jStorage.CONFIG_BACKEND.equals(key) || RRD4jStorage.CONFIG_SYNC_PERIOD.equals(key)
+                    || CONFIG_WARMUP.equals(key)) {
+                // storage options are only applied on activation
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -264,6 +312,27 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Reads all database files once, so that their pages are in the page cache when the first charts and queries
+     * are requested after startup. This avoids many small random reads on slow storage like SD cards.
+     */
+    private void warmUp() {
+        long start = System.currentTimeMillis();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        List<String> filenames = getRrdFiles();
+        for (String filename : filenames) {
+            try (FileChannel channel = FileChannel.open(DB_FOLDER.resolve(filename), StandardOpenOption.READ)) {
+                while (channel.read(buffer) > 0) {
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                logger.debug("Could not read rrd4j database '{}' during warm-up: {}", filename, e.getMessage());
+            }
+            buffer.clear();
+        }
+        logger.debug("Warmed up {} rrd4j databases in {} ms", filenames.size(), System.currentTimeMillis() - start);
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
@@ -271,6 +340,30 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("rrd4j writer threads did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdown();
+
+        // all databases of the service are closed now, so the backend can be closed as well
+        if (activeStorage == storage) {
+            activeStorage = null;
+        }
+        storage.close();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistryProvider(meterRegistryProvider);
+    }
+
+    protected void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.unsetMeterRegistryProvider(meterRegistryProvider);
     }
 
     @Override
@@ -338,31 +431,79 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        // collect all due values per database file, they are kept in timestamp order by the storage map
+        Map<String, List<Point>> pointsPerName = new LinkedHashMap<>();
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
                 Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                pointsPerName.computeIfAbsent(key.name, k -> new ArrayList<>()).add(new Point(key.timestamp, value));
             } else {
-                return;
+                break;
             }
         }
-    }
+        if (pointsPerName.isEmpty()) {
+            return;
+        }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
+        // different files are written in parallel, we wait for all of them so that a forced store is complete
+        List<Callable<Void>> tasks = new ArrayList<>(pointsPerName.size());
+        pointsPerName.forEach((name, points) -> tasks.add(() -> {
+            writePointsToDatabase(name, points);
+            return null;
+        }));
+        long startNanos = System.nanoTime();
         try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            writer.invokeAll(tasks);
+        } catch (RejectedExecutionException e) {
+            // the writer is already shut down, write the remaining values from this thread
+            pointsPerName.forEach(this::writePointsToDatabase);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while storing {} values in rrd4j databases", pointsPerName.size());
         }
-        if (db == null) {
-            return;
+        metrics.recordStore(startNanos);
+    }
+
+    private void writePointsToDatabase(String name, List<Point> points) {
+        Lock lock = getFileLock(name);
+        lock.lock();
+        try {
+            RrdDb db = null;
+            try {
+                db = getDB(name, true);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            }
+            if (db == null) {
+                return;
+            }
+
+            try {
+                ConsolFun function = getConsolidationFunction(db);
+                boolean counter = db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER;
+                long step = db.getRrdDef().getStep();
+                for (Point point : points) {
+                    writePoint(db, name, point.value(), point.timestamp(), function, counter, step);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            } finally {
+                try {
+                    db.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database: {}", e.getMessage());
+                }
+            }
+        } finally {
+            lock.unlock();
         }
+    }
 
-        ConsolFun function = getConsolidationFunction(db);
+    private void writePoint(RrdDb db, String name, double value, long timestamp, ConsolFun function, boolean counter,
+            long step) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -387,22 +528,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         try {
             Sample sample = db.createSample();
             sample.setTime(timestamp);
-            double storeValue = value;
-            if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) {
-                // counter values must be adjusted by stepsize
-                storeValue = value * db.getRrdDef().getStep();
-            }
+            // counter values must be adjusted by stepsize
+            double storeValue = counter ? value * step : value;
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+    }
+
+    private Lock getFileLock(String name) {
+        return fileLocks[Math.floorMod(name.hashCode(), fileLocks.length)];
     }
 
     @Override
@@ -412,6 +549,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long startNanos = System.nanoTime();
+        try {
+            return doQuery(filter);
+        } finally {
+            metrics.recordQuery(startNanos);
+        }
+    }
+
+    private Iterable<HistoricItem> doQuery(FilterCriteria filter) {
         ZonedDateTime filterBeginDate = filter.getBeginDate();
         ZonedDateTime filterEndDate = filter.getEndDate();
         if (filterBeginDate != null && filterEndDate != null && filterBeginDate.isAfter(filterEndDate)) {
@@ -539,12 +685,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
+        Lock lock = getFileLock(alias);
+        lock.lock();
         try {
             Builder builder = RrdDb.getBuilder();
-            builder.setPool(DATABASE_POOL);
+            builder.setPool(storage.getDatabasePool());
+            builder.setBackendFactory(storage.getBackendFactory());
 
             if (Files.exists(path)) {
                 // recreate the RrdDb instance from the file
@@ -570,6 +719,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (RejectedExecutionException e) {
             // this happens if the system is shut down
             logger.debug("Could not create rrd4j database file '{}': {}", path, e.getMessage());
+        } finally {
+            lock.unlock();
         }
         return db;
     }
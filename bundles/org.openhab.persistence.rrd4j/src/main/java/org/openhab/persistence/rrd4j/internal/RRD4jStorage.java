@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDbPool;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The storage backend of an active {@link RRD4jPersistenceService}: the rrd4j backend factory and the database pool
+ * using it. An instance is created when the service is activated and is never changed afterwards, so all database
+ * handles of the service are opened with the same factory and are closed before the factory itself.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class RRD4jStorage {
+
+    public static final String CONFIG_BACKEND = "backend";
+    public static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+
+    public static final String BACKEND_DEFAULT = "default";
+    public static final String BACKEND_FILE = "file";
+    public static final String BACKEND_NIO = "nio";
+    public static final int DEFAULT_SYNC_PERIOD = 300;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RRD4jStorage.class);
+
+    private final String backend;
+    private final int syncPeriod;
+    private final RrdBackendFactory backendFactory;
+    private final RrdDbPool databasePool;
+
+    private RRD4jStorage(String backend, int syncPeriod, RrdBackendFactory backendFactory) {
+        this.backend = backend;
+        this.syncPeriod = syncPeriod;
+        this.backendFactory = backendFactory;
+        this.databasePool = new RrdDbPool(backendFactory);
+    }
+
+    /**
+     * Creates the storage for the backend options of the given configuration, unknown or illegal values are replaced
+     * by the defaults.
+     *
+     * @param config the configuration of the persistence service
+     * @return the storage to use until the service is deactivated
+     */
+    public static RRD4jStorage create(Map<String, Object> config) {
+        String backend = getBackend(config);
+        int syncPeriod = getSyncPeriod(config);
+        RrdBackendFactory factory = switch (backend) {
+            case BACKEND_FILE -> new RrdRandomAccessFileBackendFactory();
+            case BACKEND_NIO -> new RrdNioBackendFactory(syncPeriod);
+            default -> RrdBackendFactory.getDefaultFactory();
+        };
+        LOGGER.debug("Using rrd4j storage backend {}", factory.getName());
+        return new RRD4jStorage(backend, syncPeriod, factory);
+    }
+
+    /**
+     * Checks whether the backend options of the given configuration would result in a different storage.
+     *
+     * @param config the configuration of the persistence service
+     * @return {@code true} if the configuration selects another backend or sync period than this storage uses
+     */
+    public boolean differsFrom(Map<String, Object> config) {
+        String newBackend = getBackend(config);
+        return !newBackend.equals(backend) || (BACKEND_NIO.equals(backend) && getSyncPeriod(config) != syncPeriod);
+    }
+
+    public RrdBackendFactory getBackendFactory() {
+        return backendFactory;
+    }
+
+    public RrdDbPool getDatabasePool() {
+        return databasePool;
+    }
+
+    /**
+     * Closes the backend factory, which stops the sync task of the nio backend. All database handles must have been
+     * closed before.
+     */
+    public void close() {
+        if (backendFactory != RrdBackendFactory.getDefaultFactory()) {
+            try {
+                backendFactory.close();
+            } catch (IOException e) {
+                LOGGER.debug("Error closing rrd4j backend: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static String getBackend(Map<String, Object> config) {
+        String backend = Objects.toString(config.get(CONFIG_BACKEND), BACKEND_DEFAULT).trim()
+                .toLowerCase(Locale.ROOT);
+        return switch (backend) {
+            case BACKEND_DEFAULT, BACKEND_FILE, BACKEND_NIO -> backend;
+            default -> {
+                LOGGER.warn("Unknown storage backend '{}', using the default backend", backend);
+                yield BACKEND_DEFAULT;
+            }
+        };
+    }
+
+    private static int getSyncPeriod(Map<String, Object> config) {
+        Object syncPeriodValue = config.get(CONFIG_SYNC_PERIOD);
+        if (syncPeriodValue == null) {
+            return DEFAULT_SYNC_PERIOD;
+        }
+        try {
+            int syncPeriod = Integer.parseInt(syncPeriodValue.toString().trim());
+            if (syncPeriod >= 1) {
+                return syncPeriod;
+            }
+            LOGGER.warn("Sync period must be at least 1 second, using {} seconds", DEFAULT_SYNC_PERIOD);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring illegal sync period '{}', using {} seconds", syncPeriodValue, DEFAULT_SYNC_PERIOD);
+        }
+        return DEFAULT_SYNC_PERIOD;
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+
+/**
+ * Tests the storage backend handling of the {@link RRD4jPersistenceService}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class RRD4jPersistenceServiceTest {
+
+    private static final String ITEM_NAME = "Temperature";
+    private static final String SHARED_ITEM_NAME = "Shared";
+    private static final long CONCURRENT_STORE_MILLIS = 3000;
+
+    private record StoredValue(long earliestSecond, long latestSecond, double value) {
+    }
+
+    private static @TempDir @NonNullByDefault({}) Path userDataFolder;
+
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistry;
+
+    private @Nullable RRD4jPersistenceService service;
+
+    @BeforeAll
+    public static void setUpUserDataFolder() {
+        // the database folder is resolved once, when the service class is initialized
+        System.setProperty("openhab.userdata", userDataFolder.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RRD4jPersistenceService service = this.service;
+        if (service != null) {
+            service.deactivate();
+        }
+    }
+
+    @Test
+    public void backendIsKeptUntilServiceIsRestarted() throws ItemNotFoundException {
+        NumberItem item = new NumberItem(ITEM_NAME);
+        item.setState(new DecimalType(21));
+        when(itemRegistry.getItem(ITEM_NAME)).thenReturn(item);
+
+        RRD4jPersistenceService nioService = new RRD4jPersistenceService(itemRegistry,
+                Map.of("backend", "nio", "syncPeriod", "1"));
+        service = nioService;
+        RRD4jStorage nioStorage = RRD4jPersistenceService.getActiveStorage();
+        assertNotNull(nioStorage);
+        assertThat(nioStorage.getBackendFactory(), is(instanceOf(RrdNioBackendFactory.class)));
+
+        // a changed backend must not replace the storage while databases may be open
+        nioService.modified(Map.of("backend", "file"));
+        assertSame(nioStorage, RRD4jPersistenceService.getActiveStorage());
+
+        nioService.store(item);
+        nioService.deactivate();
+        service = null;
+        assertNull(RRD4jPersistenceService.getActiveStorage());
+
+        RRD4jPersistenceService fileService = new RRD4jPersistenceService(itemRegistry, Map.of("backend", "file"));
+        service = fileService;
+        RRD4jStorage fileStorage = RRD4jPersistenceService.getActiveStorage();
+        assertNotNull(fileStorage);
+        assertThat(fileStorage.getBackendFactory(), is(instanceOf(RrdRandomAccessFileBackendFactory.class)));
+
+        // the value written through the closed nio backend is read with the new backend
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(Ordering.DESCENDING);
+        filter.setPageSize(1);
+        List<HistoricItem> result = StreamSupport.stream(fileService.query(filter).spliterator(), false).toList();
+        assertThat(result, hasSize(1));
+        assertThat(result.get(0).getState(), is(new DecimalType(21)));
+    }
+
+    @Test
+    public void invalidBackendOptionsFallBackToDefaults() {
+        RRD4jStorage storage = RRD4jStorage.create(Map.of("backend", "ram", "syncPeriod", "0"));
+
+        assertSame(RrdBackendFactory.getDefaultFactory(), storage.getBackendFactory());
+        assertFalse(storage.differsFrom(Map.of()));
+        assertTrue(storage.differsFrom(Map.of("backend", "nio")));
+    }
+
+    @Test
+    public void syncPeriodOnlyMattersForNioBackend() {
+        RRD4jStorage nioStorage = RRD4jStorage.create(Map.of("backend", "nio", "syncPeriod", "600"));
+        RRD4jStorage fileStorage = RRD4jStorage.create(Map.of("backend", "file"));
+        try {
+            assertFalse(nioStorage.differsFrom(Map.of("backend", " NIO ", "syncPeriod", "600")));
+            assertTrue(nioStorage.differsFrom(Map.of("backend", "nio")));
+            assertFalse(fileStorage.differsFrom(Map.of("backend", "file", "syncPeriod", "600")));
+        } finally {
+            nioStorage.close();
+            fileStorage.close();
+        }
+    }
+
+    @Test
+    public void concurrentStoresAreNotLost() throws Exception {
+        List<String> names = List.of(SHARED_ITEM_NAME, "Concurrent0", "Concurrent1", "Concurrent2", "Concurrent3");
+        // a step of one second keeps every stored value in its own row
+        RRD4jPersistenceService concurrentService = new RRD4jPersistenceService(itemRegistry, Map.of("second.def",
+                "GAUGE,60,U,U,1", "second.archives", "LAST,0.5,1,600", "second.items", String.join(",", names)));
+        service = concurrentService;
+        // the databases are created up front, values before their start time would be rejected
+        for (String name : names) {
+            RrdDb db = concurrentService.getDB(name, true);
+            assertNotNull(db);
+            db.close();
+        }
+        Thread.sleep(1100);
+
+        // every writer stores into its own database and into the shared one, while the shared one is queried
+        int writers = names.size() - 1;
+        Map<String, List<StoredValue>> stored = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        long end = System.currentTimeMillis() + CONCURRENT_STORE_MILLIS;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            NumberItem ownItem = new NumberItem(names.get(writer + 1));
+            NumberItem sharedItem = new NumberItem(SHARED_ITEM_NAME);
+            int offset = writer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; System.currentTimeMillis() < end; i++) {
+                    // the values are unique across all writers
+                    int value = i * writers + offset;
+                    store(concurrentService, ownItem, value, stored);
+                    store(concurrentService, sharedItem, value, stored);
+                    Thread.sleep(2);
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName(SHARED_ITEM_NAME);
+            while (System.currentTimeMillis() < end) {
+                concurrentService.query(filter).forEach(historicItem -> {
+                });
+                Thread.sleep(10);
+            }
+            return null;
+        }));
+        for (Future<?> future : futures) {
+            future.get(CONCURRENT_STORE_MILLIS * 3, TimeUnit.MILLISECONDS);
+        }
+        executor.shutdown();
+        concurrentService.deactivate();
+
+        RRD4jPersistenceService readService = new RRD4jPersistenceService(itemRegistry, Map.of());
+        service = readService;
+        for (String name : names) {
+            List<StoredValue> values = stored.get(name);
+            assertNotNull(values);
+            assertNoValueLost(readService, name, values);
+        }
+    }
+
+    private static void store(RRD4jPersistenceService service, NumberItem item, int value,
+            Map<String, List<StoredValue>> stored) {
+        item.setState(new DecimalType(value));
+        long earliestSecond = System.currentTimeMillis() / 1000;
+        service.store(item);
+        long latestSecond = System.currentTimeMillis() / 1000;
+        stored.computeIfAbsent(item.getName(), name -> Collections.synchronizedList(new ArrayList<>()))
+                .add(new StoredValue(earliestSecond, latestSecond, value));
+    }
+
+    /**
+     * Checks that every second in which a value was certainly stored has a row with one of the values stored in that
+     * second. The last value of a second wins, for the shared database it is unknown which writer stored it last.
+     */
+    private static void assertNoValueLost(RRD4jPersistenceService service, String name, List<StoredValue> values)
+            throws IOException {
+        long first = values.stream().mapToLong(StoredValue::earliestSecond).min().orElseThrow();
+        long last = values.stream().mapToLong(StoredValue::latestSecond).max().orElseThrow();
+        RrdDb db = service.getDB(name, false);
+        assertNotNull(db);
+        try {
+            FetchData data = db.createFetchRequest(ConsolFun.LAST, first, last).fetchData();
+            long[] timestamps = data.getTimestamps();
+            double[] rows = data.getValues("state");
+            int checkedSeconds = 0;
+            for (int i = 0; i < timestamps.length; i++) {
+                long second = timestamps[i];
+                if (values.stream().noneMatch(v -> v.earliestSecond() == second && v.latestSecond() == second)) {
+                    continue;
+                }
+                List<Double> candidates = values.stream()
+                        .filter(v -> v.earliestSecond() <= second && second <= v.latestSecond())
+                        .map(StoredValue::value).toList();
+                assertThat("value of " + name + " at " + second, rows[i], is(in(candidates)));
+                checkedSeconds++;
+            }
+            assertThat(checkedSeconds, is(greaterThanOrEqualTo((int) (CONCURRENT_STORE_MILLIS / 1000) - 1)));
+        } finally {
+            db.close();
+        }
+    }
+}
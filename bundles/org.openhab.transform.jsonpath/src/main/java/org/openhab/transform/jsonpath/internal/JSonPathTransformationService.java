@@ -12,7 +12,11 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +28,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -39,8 +44,37 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int PATH_CACHE_SIZE = 256;
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final long DOCUMENT_CACHE_TTL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    // compiled paths by expression, least recently used ones are evicted
+    private final Map<String, JsonPath> pathCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, JsonPath>(PATH_CACHE_SIZE, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+                    return size() > PATH_CACHE_SIZE;
+                }
+            });
+
+    // parsed documents by source, so that a payload which feeds many channels is parsed only once
+    private final Map<String, ParsedDocument> documentCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, ParsedDocument>(DOCUMENT_CACHE_SIZE, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, ParsedDocument> eldest) {
+                    return size() > DOCUMENT_CACHE_SIZE;
+                }
+            });
+
+    private record ParsedDocument(Object document, long expiresAt) {
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +96,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getPath(jsonPathExpression).read(getDocument(source));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +112,34 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path = pathCache.get(jsonPathExpression);
+        if (path == null) {
+            path = JsonPath.compile(jsonPathExpression);
+            pathCache.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the parsed document for the source. The cache is keyed by the content of the source, so equal payloads
+     * delivered as different string instances share the document. Documents are only read by the paths and never
+     * modified, so they can be shared between threads.
+     */
+    private Object getDocument(String source) {
+        long now = System.nanoTime();
+        ParsedDocument parsed = documentCache.get(source);
+        if (parsed == null || now - parsed.expiresAt() > 0) {
+            parsed = new ParsedDocument(parse(source), now + DOCUMENT_CACHE_TTL_NANOS);
+            documentCache.put(source, parsed);
+        }
+        return parsed.document();
+    }
+
+    Object parse(String source) {
+        return Configuration.defaultConfiguration().jsonProvider().parse(source);
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -14,6 +14,8 @@ package org.openhab.transform.jsonpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -129,4 +131,26 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testManyPathsOnSameDocument() throws TransformationException {
+        AtomicInteger parseCount = new AtomicInteger();
+        processor = new JSonPathTransformationService() {
+            @Override
+            Object parse(String source) {
+                parseCount.incrementAndGet();
+                return super.parse(source);
+            }
+        };
+
+        // the document is parsed once and shared by all paths, also for an equal source in a new string instance
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", JSON_ARRAY));
+        assertEquals("[1, 2]", processor.transform("$.*.id", new String(JSON_ARRAY)));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals(1, parseCount.get());
+
+        assertEquals("1", processor.transform("$.id", "{ \"id\":1 }"));
+        assertEquals(2, parseCount.get());
+    }
 }
@@ -75,4 +75,13 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_sameExpressionInBothForms() throws TransformationException {
+        // the cached pattern of the substitution form must not be reused for the match form
+        assertEquals("b", processor.transform("s/a/b/", "a"));
+        assertEquals("a", processor.transform("(a)", "a"));
+        assertEquals("bb", processor.transform("s/a/b/g", "aa"));
+        assertEquals("ba", processor.transform("s/a/b/", "aa"));
+    }
 }
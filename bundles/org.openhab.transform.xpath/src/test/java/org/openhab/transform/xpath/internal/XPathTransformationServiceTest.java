@@ -38,4 +38,29 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXPathRepeatedly() throws TransformationException {
+        // the cached expression and the reused document builder must give the same result
+        for (int i = 0; i < 3; i++) {
+            assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+            assertEquals("1", processor.transform("count(//current_conditions)", source));
+        }
+    }
+
+    @Test
+    public void testDocumentBuilderIsReusedAndReleasedOnDeactivate() throws TransformationException {
+        processor.transform("//current_conditions/temp_c/@data", source);
+        processor.transform("//current_conditions/temp_c/@data", source);
+        assertEquals(1, processor.getIdleDocumentBuilderCount());
+
+        processor.deactivate();
+        assertEquals(0, processor.getIdleDocumentBuilderCount());
+    }
+
+    @Test
+    public void testDocumentBuilderIsReturnedAfterFailedTransformation() {
+        assertThrows(TransformationException.class, () -> processor.transform("//temp_c", "<unclosed>"));
+        assertEquals(1, processor.getIdleDocumentBuilderCount());
+    }
 }
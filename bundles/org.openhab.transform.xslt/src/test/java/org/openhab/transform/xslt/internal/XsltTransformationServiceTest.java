@@ -13,9 +13,16 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -23,11 +30,13 @@ import org.openhab.core.transform.TransformationException;
  */
 public class XsltTransformationServiceTest extends AbstractTransformationServiceTest {
 
+    private static final String CONFIG_FOLDER_PROPERTY = "openhab.conf";
+
     private XsltTransformationService processor;
 
     @BeforeEach
     public void init() {
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(WatchService.class));
     }
 
     @Test
@@ -38,4 +47,42 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXSLTAfterFileChange(@TempDir Path configFolder)
+            throws IOException, TransformationException {
+        Path stylesheet = configFolder.resolve(Path.of("transform", "http", "weather.xsl"));
+        Files.createDirectories(stylesheet.getParent());
+        Files.writeString(stylesheet, stylesheet("temp_c"));
+
+        String oldConfigFolder = System.getProperty(CONFIG_FOLDER_PROPERTY);
+        System.setProperty(CONFIG_FOLDER_PROPERTY, configFolder.toString());
+        try {
+            assertEquals("8", processor.transform("http/weather.xsl", source));
+
+            // a changed file is compiled again on the next transformation
+            Files.writeString(stylesheet, stylesheet("temp_f"));
+            processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "weather.xsl"));
+
+            assertEquals("46", processor.transform("http/weather.xsl", source));
+        } finally {
+            if (oldConfigFolder == null) {
+                System.clearProperty(CONFIG_FOLDER_PROPERTY);
+            } else {
+                System.setProperty(CONFIG_FOLDER_PROPERTY, oldConfigFolder);
+            }
+        }
+    }
+
+    private static String stylesheet(String element) {
+        return """
+                <?xml version="1.0"?>
+                <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="1.0">
+                    <xsl:output method="text" encoding="UTF-8" />
+                    <xsl:template match="/">
+                        <xsl:value-of select="//current_conditions/%s/@data" />
+                    </xsl:template>
+                </xsl:stylesheet>
+                """.formatted(element);
+    }
 }